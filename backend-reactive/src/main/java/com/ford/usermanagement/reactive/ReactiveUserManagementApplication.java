@@ -0,0 +1,15 @@
+package com.ford.usermanagement.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication
+@EnableScheduling
+public class ReactiveUserManagementApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveUserManagementApplication.class, args);
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.ford.usermanagement.reactive.config;
+
+import com.ford.usermanagement.reactive.repository.UserRepository;
+import com.ford.usermanagement.reactive.service.JwtService;
+import com.ford.usermanagement.reactive.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Autenticação JWT da API reativa, sem Spring Security: rotas públicas passam
+ * direto; as demais exigem um token válido e não revogado, cujo subject fica
+ * nos atributos da troca. Sem isso a resposta é 401 sem corpo, como na API MVC.
+ * Como lá, um token com {@code sv} anterior ao {@code security_version} do
+ * usuário (senha trocada em qualquer uma das APIs) é rejeitado. Nada aqui
+ * bloqueia: a verificação é HMAC em memória, a lista de revogação também está
+ * em memória e o usuário vem do R2DBC.
+ */
+@Component
+public class JwtAuthenticationFilter implements WebFilter, Ordered {
+
+    /** Atributo da troca com o email (subject do token) do usuário autenticado. */
+    public static final String PRINCIPAL_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".principal";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String CLAIM_SECURITY_VERSION = "sv";
+
+    /** Tokens emitidos aqui têm poucas centenas de bytes; acima disso nem são analisados. */
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    /** Mesmas rotas públicas da API MVC; {@code /x/} casa também {@code /x}. */
+    private static final String[] PUBLIC_PREFIXES = {
+            "/api/auth/",
+            "/api/health",
+            "/actuator/"
+    };
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter invalidTokens;
+
+    private Counter revokedTokens;
+
+    private Counter staleTokens;
+
+    @PostConstruct
+    void initMetrics() {
+        invalidTokens = rejectionCounter("invalid");
+        revokedTokens = rejectionCounter("revoked");
+        staleTokens = rejectionCounter("stale");
+    }
+
+    private Counter rejectionCounter(String reason) {
+        return Counter.builder("auth.jwt.failures")
+                .description("Tokens JWT rejeitados pelo filtro de autenticação")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public static String authenticatedEmail(ServerWebExchange exchange) {
+        return exchange.getAttribute(PRINCIPAL_ATTRIBUTE);
+    }
+
+    /**
+     * Depois do filtro de CORS, para que preflights sejam respondidos sem token.
+     */
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (isPublic(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        return authenticate(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .flatMap(subject -> {
+                    exchange.getAttributes().put(PRINCIPAL_ATTRIBUTE, subject);
+                    return chain.filter(exchange).thenReturn(subject);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                    return exchange.getResponse().setComplete().then(Mono.empty());
+                }))
+                .then();
+    }
+
+    /**
+     * Subject do token se ele for válido, não revogado e tiver o
+     * {@code security_version} atual do usuário; vazio caso contrário.
+     */
+    private Mono<String> authenticate(String header) {
+        String jwt = getJwtFromHeader(header);
+        if (jwt == null) {
+            return Mono.empty();
+        }
+
+        Claims claims = jwtService.verifyToken(jwt);
+        if (claims == null) {
+            invalidTokens.increment();
+            return Mono.empty();
+        }
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            revokedTokens.increment();
+            return Mono.empty();
+        }
+        // Tokens sem sv (anteriores ao carimbo) valem enquanto o usuário existir, como na API MVC
+        Integer tokenVersion = claims.get(CLAIM_SECURITY_VERSION, Integer.class);
+        return userRepository.findByEmail(claims.getSubject())
+                .filter(user -> tokenVersion == null || user.getSecurityVersion() <= tokenVersion)
+                .map(user -> claims.getSubject())
+                .switchIfEmpty(Mono.fromRunnable(staleTokens::increment));
+    }
+
+    private String getJwtFromHeader(String header) {
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String jwt = header.substring(BEARER_PREFIX.length()).trim();
+        if (jwt.isEmpty() || jwt.length() > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+        return jwt;
+    }
+
+    private static boolean isPublic(String path) {
+        for (String prefix : PUBLIC_PREFIXES) {
+            if (prefix.endsWith("/")
+                    ? path.startsWith(prefix) || path.equals(prefix.substring(0, prefix.length() - 1))
+                    : path.equals(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ford.usermanagement.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Fixa o número de threads de I/O do Netty. Cada thread atende milhares de
+ * conexões, inclusive de clientes lentos, porque nenhuma espera por banco ou
+ * BCrypt: o R2DBC não bloqueia e o hashing roda em seu próprio scheduler.
+ * Com {@code app.server.io-threads=0} vale o padrão do Reactor Netty (um por núcleo).
+ */
+@Component
+public class NettyConfig implements WebServerFactoryCustomizer<NettyReactiveWebServerFactory> {
+
+    @Value("${app.server.io-threads:0}")
+    private int ioThreads;
+
+    @Override
+    public void customize(NettyReactiveWebServerFactory factory) {
+        if (ioThreads > 0) {
+            LoopResources loopResources = LoopResources.create("http-io", ioThreads, true);
+            factory.addServerCustomizers(server -> server.runOn(loopResources));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ford.usermanagement.reactive.config;
+
+import com.ford.usermanagement.reactive.handler.AuthHandler;
+import com.ford.usermanagement.reactive.handler.HealthHandler;
+import com.ford.usermanagement.reactive.handler.UserHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.Arrays;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Endpoints funcionais com os mesmos caminhos e respostas da API MVC para
+ * cadastro, login e perfil.
+ */
+@Configuration
+public class RouterConfig {
+
+    @Autowired
+    private AuthHandler authHandler;
+
+    @Autowired
+    private UserHandler userHandler;
+
+    @Autowired
+    private HealthHandler healthHandler;
+
+    @Bean
+    public RouterFunction<ServerResponse> routes() {
+        return route()
+                .POST("/api/auth/register", authHandler::register)
+                .POST("/api/auth/login", authHandler::login)
+                .GET("/api/users/profile", userHandler::getProfile)
+                .GET("/api/health", healthHandler::health)
+                .build();
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public CorsWebFilter corsWebFilter() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOriginPatterns(Arrays.asList("*"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("ETag"));
+        configuration.setAllowCredentials(true);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+        return new CorsWebFilter(source);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ford.usermanagement.reactive.dto;
+
+public class LoginResponse {
+
+    private String token;
+    private String type = "Bearer";
+    private String refreshToken;
+    private long expiresIn;
+    private UserResponse user;
+
+    public LoginResponse() {}
+
+    public LoginResponse(String token, UserResponse user) {
+        this.token = token;
+        this.user = user;
+    }
+
+    public LoginResponse(String token, String refreshToken, long expiresIn, UserResponse user) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+        this.user = user;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    /**
+     * Validade do access token, em segundos.
+     */
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+
+    @Override
+    public String toString() {
+        return "LoginResponse{" +
+                "type='" + type + '\'' +
+                ", expiresIn=" + expiresIn +
+                ", user=" + user +
+                '}';
+    }
+}
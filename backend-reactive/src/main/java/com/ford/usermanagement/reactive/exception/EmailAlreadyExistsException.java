@@ -0,0 +1,7 @@
+package com.ford.usermanagement.reactive.exception;
+
+public class EmailAlreadyExistsException extends RuntimeException {
+    public EmailAlreadyExistsException(String message) {
+        super(message);
+    }
+}
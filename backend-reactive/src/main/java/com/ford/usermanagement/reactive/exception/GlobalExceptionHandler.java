@@ -0,0 +1,115 @@
+package com.ford.usermanagement.reactive.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Converte as exceções dos handlers nas mesmas respostas de erro da API MVC.
+ * Roda antes do tratador padrão do Spring Boot, que segue cuidando das
+ * demais {@link ResponseStatusException} (rota inexistente, método não suportado).
+ */
+@Component
+@Order(-2)
+public class GlobalExceptionHandler implements WebExceptionHandler {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+
+        if (ex instanceof InvalidRequestException invalidRequest) {
+            return write(response, HttpStatus.BAD_REQUEST, "Dados inválidos",
+                    invalidRequest.getMessage(), invalidRequest.getErrors());
+        }
+        if (ex instanceof ServerWebInputException) {
+            return write(response, HttpStatus.BAD_REQUEST, "Dados inválidos",
+                    "Os dados fornecidos não são válidos", null);
+        }
+        if (ex instanceof EmailAlreadyExistsException) {
+            return write(response, HttpStatus.CONFLICT, "Email já existe", ex.getMessage(), null);
+        }
+        if (ex instanceof InvalidCredentialsException) {
+            return write(response, HttpStatus.UNAUTHORIZED, "Credenciais inválidas", "Email ou senha incorretos", null);
+        }
+        if (ex instanceof UserNotFoundException) {
+            return write(response, HttpStatus.NOT_FOUND, "Usuário não encontrado", ex.getMessage(), null);
+        }
+        if (ex instanceof PasswordHashingUnavailableException) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return write(response, HttpStatus.SERVICE_UNAVAILABLE, "Serviço temporariamente indisponível",
+                    "Servidor ocupado processando outras autenticações. Tente novamente em instantes.", null);
+        }
+        if (ex instanceof ResponseStatusException) {
+            return Mono.error(ex);
+        }
+        return write(response, HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor",
+                "Ocorreu um erro inesperado. Tente novamente mais tarde.", null);
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, HttpStatus status, String title, String message,
+                             Map<String, String> errors) {
+        ErrorResponse errorResponse = new ErrorResponse(title, message, status.value(), LocalDateTime.now(), errors);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException ex) {
+            return Mono.error(ex);
+        }
+
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    public static class ErrorResponse {
+        private String title;
+        private String message;
+        private int status;
+        private LocalDateTime timestamp;
+        private Map<String, String> errors;
+
+        public ErrorResponse(String title, String message, int status, LocalDateTime timestamp, Map<String, String> errors) {
+            this.title = title;
+            this.message = message;
+            this.status = status;
+            this.timestamp = timestamp;
+            this.errors = errors;
+        }
+
+        // Getters and setters
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+
+        public int getStatus() { return status; }
+        public void setStatus(int status) { this.status = status; }
+
+        public LocalDateTime getTimestamp() { return timestamp; }
+        public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+
+        public Map<String, String> getErrors() { return errors; }
+        public void setErrors(Map<String, String> errors) { this.errors = errors; }
+    }
+}
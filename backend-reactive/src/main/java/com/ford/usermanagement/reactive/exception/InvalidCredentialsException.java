@@ -0,0 +1,7 @@
+package com.ford.usermanagement.reactive.exception;
+
+public class InvalidCredentialsException extends RuntimeException {
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
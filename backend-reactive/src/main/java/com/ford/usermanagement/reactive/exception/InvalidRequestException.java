@@ -0,0 +1,21 @@
+package com.ford.usermanagement.reactive.exception;
+
+import java.util.Map;
+
+/**
+ * Corpo de requisição reprovado na validação; carrega a mensagem de cada
+ * campo, como o {@code MethodArgumentNotValidException} da API MVC.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public InvalidRequestException(Map<String, String> errors) {
+        super("Os dados fornecidos não são válidos");
+        this.errors = errors;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,7 @@
+package com.ford.usermanagement.reactive.exception;
+
+public class UserNotFoundException extends RuntimeException {
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
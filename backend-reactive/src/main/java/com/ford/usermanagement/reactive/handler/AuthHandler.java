@@ -0,0 +1,33 @@
+package com.ford.usermanagement.reactive.handler;
+
+import com.ford.usermanagement.reactive.dto.LoginRequest;
+import com.ford.usermanagement.reactive.dto.RegisterRequest;
+import com.ford.usermanagement.reactive.service.AuthService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Component
+public class AuthHandler {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RequestValidator requestValidator;
+
+    public Mono<ServerResponse> register(ServerRequest request) {
+        return requestValidator.body(request, RegisterRequest.class)
+                .flatMap(authService::register)
+                .flatMap(user -> ServerResponse.status(HttpStatus.CREATED).bodyValue(user));
+    }
+
+    public Mono<ServerResponse> login(ServerRequest request) {
+        return requestValidator.body(request, LoginRequest.class)
+                .flatMap(authService::login)
+                .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+}
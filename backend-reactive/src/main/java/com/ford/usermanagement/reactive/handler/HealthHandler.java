@@ -0,0 +1,24 @@
+package com.ford.usermanagement.reactive.handler;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class HealthHandler {
+
+    public Mono<ServerResponse> health(ServerRequest request) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "UP");
+        response.put("timestamp", LocalDateTime.now());
+        response.put("service", "Ford User Management API (Reativa)");
+        response.put("version", "1.0.0");
+
+        return ServerResponse.ok().bodyValue(response);
+    }
+}
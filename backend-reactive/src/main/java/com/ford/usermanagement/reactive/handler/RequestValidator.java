@@ -0,0 +1,41 @@
+package com.ford.usermanagement.reactive.handler;
+
+import com.ford.usermanagement.reactive.exception.InvalidRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Equivalente ao {@code @Valid @RequestBody} dos controllers MVC para os
+ * endpoints funcionais: lê o corpo e aplica as anotações do DTO.
+ */
+@Component
+public class RequestValidator {
+
+    @Autowired
+    private Validator validator;
+
+    public <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Corpo da requisição ausente")))
+                .map(this::validate);
+    }
+
+    private <T> T validate(T body) {
+        Set<ConstraintViolation<T>> violations = validator.validate(body);
+        if (violations.isEmpty()) {
+            return body;
+        }
+        Map<String, String> errors = new HashMap<>();
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        throw new InvalidRequestException(errors);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ford.usermanagement.reactive.handler;
+
+import com.ford.usermanagement.reactive.config.JwtAuthenticationFilter;
+import com.ford.usermanagement.reactive.service.AuthService;
+import com.ford.usermanagement.reactive.service.ProfileETag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Component
+public class UserHandler {
+
+    @Autowired
+    private AuthService authService;
+
+    /**
+     * Perfil do usuário autenticado, com o mesmo ETag da API MVC; responde 304
+     * sem corpo se o If-None-Match ainda for válido.
+     */
+    public Mono<ServerResponse> getProfile(ServerRequest request) {
+        String email = JwtAuthenticationFilter.authenticatedEmail(request.exchange());
+        return authService.getUserProfile(email)
+                .flatMap(profile -> {
+                    String etag = ProfileETag.of(profile.getId(), profile.getVersion());
+                    return request.checkNotModified(etag)
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                                    .eTag(etag)
+                                    .cacheControl(CacheControl.noCache().cachePrivate())
+                                    .bodyValue(profile)));
+                });
+    }
+}
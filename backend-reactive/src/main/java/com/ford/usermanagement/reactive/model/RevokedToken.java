@@ -0,0 +1,49 @@
+package com.ford.usermanagement.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Access token revogado pelo logout da API MVC; aqui a tabela é só lida.
+ */
+@Table("revoked_tokens")
+public class RevokedToken {
+
+    @Id
+    private String jti;
+
+    @Column("expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column("revoked_at")
+    private LocalDateTime revokedAt;
+
+    public RevokedToken() {}
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(LocalDateTime revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ford.usermanagement.reactive.repository;
+
+import com.ford.usermanagement.reactive.model.RefreshToken;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RefreshTokenRepository extends ReactiveCrudRepository<RefreshToken, Long> {
+}
@@ -0,0 +1,16 @@
+package com.ford.usermanagement.reactive.repository;
+
+import com.ford.usermanagement.reactive.model.RevokedToken;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RevokedTokenRepository extends ReactiveCrudRepository<RevokedToken, String> {
+
+    Flux<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    Flux<RevokedToken> findByRevokedAtAfter(LocalDateTime since);
+}
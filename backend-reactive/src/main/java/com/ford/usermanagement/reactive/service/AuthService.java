@@ -0,0 +1,92 @@
+package com.ford.usermanagement.reactive.service;
+
+import com.ford.usermanagement.reactive.dto.LoginRequest;
+import com.ford.usermanagement.reactive.dto.LoginResponse;
+import com.ford.usermanagement.reactive.dto.RegisterRequest;
+import com.ford.usermanagement.reactive.dto.UserResponse;
+import com.ford.usermanagement.reactive.exception.EmailAlreadyExistsException;
+import com.ford.usermanagement.reactive.exception.InvalidCredentialsException;
+import com.ford.usermanagement.reactive.exception.UserNotFoundException;
+import com.ford.usermanagement.reactive.model.User;
+import com.ford.usermanagement.reactive.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class AuthService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    /**
+     * Hash comparado quando o email não existe, para que a resposta leve o
+     * mesmo tempo de uma senha errada (como no {@code DaoAuthenticationProvider}).
+     * Só o hash fica em cache: uma falha (fila de hashing cheia, timeout) vale
+     * apenas para aquela requisição e a próxima tenta de novo.
+     */
+    private Mono<String> unknownUserPassword;
+
+    @PostConstruct
+    void init() {
+        unknownUserPassword = passwordHashingService.encode(UUID.randomUUID().toString())
+                .cache(hash -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO,
+                        () -> Duration.ZERO);
+    }
+
+    public Mono<UserResponse> register(RegisterRequest request) {
+        return userRepository.existsByEmail(request.getEmail())
+                .flatMap(exists -> exists
+                        ? Mono.<String>error(new EmailAlreadyExistsException("Email já está em uso: " + request.getEmail()))
+                        : passwordHashingService.encode(request.getPassword()))
+                .flatMap(encodedPassword -> {
+                    User user = new User(request.getName(), request.getEmail(), encodedPassword);
+                    user.setCreatedAt(LocalDateTime.now());
+                    user.setUpdatedAt(user.getCreatedAt());
+                    return userRepository.save(user);
+                })
+                // Cadastro concorrente com o mesmo email entre a verificação e o insert
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> new EmailAlreadyExistsException("Email já está em uso: " + request.getEmail()))
+                .map(UserResponse::new);
+    }
+
+    public Mono<LoginResponse> login(LoginRequest request) {
+        return userRepository.findByEmail(request.getEmail())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(user -> user.map(found -> Mono.just(found.getPassword())).orElse(unknownUserPassword)
+                        .flatMap(encodedPassword -> passwordHashingService.matches(request.getPassword(), encodedPassword))
+                        .flatMap(matches -> matches && user.isPresent()
+                                ? issueTokens(user.get())
+                                : Mono.error(new InvalidCredentialsException("Email ou senha incorretos"))));
+    }
+
+    public Mono<UserResponse> getUserProfile(String email) {
+        return userRepository.findByEmail(email)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("Usuário não encontrado")))
+                .map(UserResponse::new);
+    }
+
+    private Mono<LoginResponse> issueTokens(User user) {
+        return refreshTokenService.issue(user.getId())
+                .map(refreshToken -> new LoginResponse(jwtService.generateToken(user), refreshToken,
+                        jwtService.getJwtExpiration() / 1000, new UserResponse(user)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.ford.usermanagement.reactive.service;
+
+import com.ford.usermanagement.reactive.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Emite e verifica tokens no mesmo formato da API MVC (mesmas claims e o
+ * {@code kid} da chave ativa), então um token vale nas duas APIs. A
+ * verificação HMAC custa microssegundos e roda na própria thread de I/O.
+ */
+@Service
+public class JwtService {
+
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_SECURITY_VERSION = "sv";
+
+    @Value("${app.jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${app.jwt.key-id:default}")
+    private String jwtKeyId;
+
+    @Value("${app.jwt.expiration}")
+    private long jwtExpiration;
+
+    private Key signingKey;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        // Tokens sem kid foram emitidos antes da rotação de chaves existir
+                        if (header.getKeyId() != null && !header.getKeyId().equals(jwtKeyId)) {
+                            throw new SignatureException("Chave de assinatura JWT desconhecida: " + header.getKeyId());
+                        }
+                        return signingKey;
+                    }
+                })
+                .build();
+    }
+
+    public String generateToken(User user) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyId)
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_NAME, user.getName())
+                .claim(CLAIM_SECURITY_VERSION, user.getSecurityVersion())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getEmail())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Retorna as claims de um token válido e não expirado, ou {@code null}
+     * para qualquer falha de verificação.
+     */
+    public Claims verifyToken(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    public long getJwtExpiration() {
+        return jwtExpiration;
+    }
+}
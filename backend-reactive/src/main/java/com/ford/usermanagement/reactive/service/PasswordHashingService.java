@@ -0,0 +1,104 @@
+package com.ford.usermanagement.reactive.service;
+
+import com.ford.usermanagement.reactive.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executa o BCrypt fora das threads de I/O do Netty, em um scheduler limitado
+ * dimensionado pelo número de núcleos. Com as threads e a fila de cada uma
+ * ocupadas a operação falha imediatamente, em vez de enfileirar sem limite e
+ * atrasar a resposta de todos os clientes conectados.
+ */
+@Service
+public class PasswordHashingService {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.security.bcrypt.strength:10}")
+    private int strength;
+
+    @Value("${app.security.hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.security.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.security.hashing.timeout:5000}")
+    private long timeoutMillis;
+
+    private BCryptPasswordEncoder delegate;
+
+    private Scheduler scheduler;
+
+    private Timer hashTimer;
+
+    private Timer verifyTimer;
+
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        delegate = new BCryptPasswordEncoder(strength);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        scheduler = Schedulers.newBoundedElastic(poolSize, queueCapacity, "password-hashing", 60, true);
+
+        hashTimer = Timer.builder("auth.password.hash")
+                .description("Geração de hash BCrypt")
+                .tag("strength", String.valueOf(strength))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        verifyTimer = Timer.builder("auth.password.verify")
+                .description("Verificação de senha BCrypt")
+                .tag("strength", String.valueOf(strength))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("Operações recusadas por saturação do pool de hashing")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+
+    public Mono<String> encode(CharSequence rawPassword) {
+        return execute(() -> hashTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    public Mono<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> verifyTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    private <T> Mono<T> execute(Callable<T> task) {
+        return Mono.fromCallable(task)
+                .subscribeOn(scheduler)
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .onErrorMap(RejectedExecutionException.class, ex -> {
+                    rejectedCounter.increment();
+                    return new PasswordHashingUnavailableException("Capacidade de processamento de senhas esgotada");
+                })
+                .onErrorMap(TimeoutException.class, ex -> {
+                    rejectedCounter.increment();
+                    return new PasswordHashingUnavailableException("Tempo esgotado aguardando processamento de senha");
+                });
+    }
+}
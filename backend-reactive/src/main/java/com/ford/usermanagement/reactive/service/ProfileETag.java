@@ -0,0 +1,13 @@
+package com.ford.usermanagement.reactive.service;
+
+/**
+ * ETag do perfil, no mesmo formato da API MVC: id e versão do usuário.
+ */
+public final class ProfileETag {
+
+    private ProfileETag() {}
+
+    public static String of(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,58 @@
+package com.ford.usermanagement.reactive.service;
+
+import com.ford.usermanagement.reactive.model.RefreshToken;
+import com.ford.usermanagement.reactive.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Emite refresh tokens no formato da API MVC. A rotação e a revogação ficam
+ * com ela: {@code /api/auth/refresh} e {@code /api/auth/logout} aceitam os
+ * tokens emitidos aqui.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${app.jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
+    /**
+     * Inicia uma nova família de tokens para o usuário e retorna o valor em claro.
+     */
+    public Mono<String> issue(Long userId) {
+        byte[] value = new byte[32];
+        RANDOM.nextBytes(value);
+        String rawToken = ENCODER.encodeToString(value);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000);
+        RefreshToken refreshToken = new RefreshToken(userId, hash(rawToken), UUID.randomUUID().toString(), expiresAt);
+        return refreshTokenRepository.save(refreshToken).thenReturn(rawToken);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
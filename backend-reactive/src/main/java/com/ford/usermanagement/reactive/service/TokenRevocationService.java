@@ -0,0 +1,88 @@
+package com.ford.usermanagement.reactive.service;
+
+import com.ford.usermanagement.reactive.model.RevokedToken;
+import com.ford.usermanagement.reactive.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de negação de access tokens revogados pelo logout da API MVC,
+ * consultada em memória pelo filtro JWT. Como na API MVC, as revogações
+ * ainda válidas são carregadas na inicialização e as novas chegam em até
+ * {@code app.jwt.revocation-sync-interval}.
+ */
+@Service
+public class TokenRevocationService implements SmartLifecycle {
+
+    /** Margem para revogações gravadas com relógio levemente adiantado em outra instância. */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private final Map<String, LocalDateTime> denylist = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSync;
+
+    private volatile boolean running;
+
+    /**
+     * Carrega as revogações antes do servidor Netty aceitar requisições; é a
+     * única leitura bloqueante do módulo e roda na thread de inicialização.
+     */
+    @Override
+    public void start() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).doOnNext(this::remember).then().block();
+        lastSync = now;
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && denylist.containsKey(jti);
+    }
+
+    /**
+     * O Spring assina o mesmo {@link Mono} a cada execução agendada, então a
+     * consulta é montada dentro do {@code defer}, com o {@code lastSync} da vez.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-sync-interval:10000}")
+    public Mono<Void> sync() {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            return revokedTokenRepository.findByRevokedAtAfter(lastSync.minus(SYNC_OVERLAP))
+                    .doOnNext(this::remember)
+                    .then(Mono.fromRunnable(() -> {
+                        denylist.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+                        lastSync = now;
+                    }));
+        });
+    }
+
+    private void remember(RevokedToken revoked) {
+        denylist.put(revoked.getJti(), revoked.getExpiresAt());
+    }
+}
@@ -0,0 +1,104 @@
+package com.ford.usermanagement.reactive.handler;
+
+import com.ford.usermanagement.reactive.dto.LoginRequest;
+import com.ford.usermanagement.reactive.dto.RegisterRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class AuthHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void testRegisterWithValidData() {
+        register(new RegisterRequest("João Silva", "joao.register@ford.com", "Password@123"))
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("joao.register@ford.com")
+                .jsonPath("$.password").doesNotExist();
+    }
+
+    @Test
+    public void testRegisterWithInvalidEmail() {
+        register(new RegisterRequest("João Silva", "invalid-email", "Password@123"))
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Dados inválidos")
+                .jsonPath("$.errors.email").isEqualTo("Email deve ter formato válido");
+    }
+
+    @Test
+    public void testRegisterWithExistingEmailReturnsConflict() {
+        register(new RegisterRequest("Maria Souza", "maria.duplicada@ford.com", "Password@123"))
+                .expectStatus().isCreated();
+
+        register(new RegisterRequest("Maria Souza", "maria.duplicada@ford.com", "Password@123"))
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Email já existe");
+    }
+
+    @Test
+    public void testLoginWithValidData() {
+        register(new RegisterRequest("João Silva", "joao.login@ford.com", "Password@123"))
+                .expectStatus().isCreated();
+
+        login(new LoginRequest("joao.login@ford.com", "Password@123"))
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.token").isNotEmpty()
+                .jsonPath("$.refreshToken").isNotEmpty()
+                .jsonPath("$.type").isEqualTo("Bearer")
+                .jsonPath("$.expiresIn").isEqualTo(60)
+                .jsonPath("$.user.email").isEqualTo("joao.login@ford.com");
+    }
+
+    @Test
+    public void testLoginWithInvalidEmail() {
+        login(new LoginRequest("invalid-email", "Password@123"))
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testLoginWithWrongPasswordOrUnknownEmailReturnsUnauthorized() {
+        register(new RegisterRequest("Ana Lima", "ana.login@ford.com", "Password@123"))
+                .expectStatus().isCreated();
+
+        login(new LoginRequest("ana.login@ford.com", "Wrong@1234"))
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Credenciais inválidas");
+        login(new LoginRequest("ninguem@ford.com", "Password@123"))
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testMalformedBodyReturnsBadRequest() {
+        webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private WebTestClient.ResponseSpec register(RegisterRequest request) {
+        return webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec login(LoginRequest request) {
+        return webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange();
+    }
+}
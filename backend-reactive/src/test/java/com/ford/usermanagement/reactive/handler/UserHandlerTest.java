@@ -0,0 +1,108 @@
+package com.ford.usermanagement.reactive.handler;
+
+import com.ford.usermanagement.reactive.dto.LoginRequest;
+import com.ford.usermanagement.reactive.dto.LoginResponse;
+import com.ford.usermanagement.reactive.dto.RegisterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class UserHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private String email;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        email = "perfil-" + UUID.randomUUID() + "@ford.com";
+        webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new RegisterRequest("João Silva", email, "Password@123"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        LoginResponse login = webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LoginRequest(email, "Password@123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(LoginResponse.class)
+                .returnResult().getResponseBody();
+        assertNotNull(login);
+        token = login.getToken();
+    }
+
+    @Test
+    public void testProfileIsReturnedWithETag() {
+        webTestClient.get().uri("/api/users/profile")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches("ETag", "\"\\d+-0\"")
+                .expectBody()
+                .jsonPath("$.email").isEqualTo(email);
+    }
+
+    @Test
+    public void testMatchingIfNoneMatchReturnsNotModified() {
+        String etag = webTestClient.get().uri("/api/users/profile")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/users/profile")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void testProfileWithoutTokenIsUnauthorized() {
+        webTestClient.get().uri("/api/users/profile")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testProfileWithTamperedTokenIsUnauthorized() {
+        webTestClient.get().uri("/api/users/profile")
+                .header("Authorization", "Bearer " + token.substring(0, token.length() - 2) + "xx")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void testTokenIssuedBeforePasswordChangeIsUnauthorized() {
+        // Troca de senha feita pela API MVC: só o security_version muda no banco compartilhado
+        databaseClient.sql("UPDATE users SET security_version = security_version + 1 WHERE email = :email")
+                .bind("email", email)
+                .then()
+                .block();
+
+        webTestClient.get().uri("/api/users/profile")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+}
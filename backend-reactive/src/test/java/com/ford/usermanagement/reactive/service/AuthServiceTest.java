@@ -0,0 +1,61 @@
+package com.ford.usermanagement.reactive.service;
+
+import com.ford.usermanagement.reactive.dto.LoginRequest;
+import com.ford.usermanagement.reactive.exception.InvalidCredentialsException;
+import com.ford.usermanagement.reactive.exception.PasswordHashingUnavailableException;
+import com.ford.usermanagement.reactive.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AuthServiceTest {
+
+    private final AtomicInteger encodeCalls = new AtomicInteger();
+
+    private AuthService authService;
+
+    @BeforeEach
+    public void setUp() {
+        PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+        // A primeira tentativa encontra a fila de hashing cheia; as seguintes funcionam
+        when(passwordHashingService.encode(any())).thenReturn(Mono.defer(() -> encodeCalls.incrementAndGet() == 1
+                ? Mono.error(new PasswordHashingUnavailableException("Fila de hashing cheia"))
+                : Mono.just("$2a$10$hash")));
+        when(passwordHashingService.matches(any(), anyString())).thenReturn(Mono.just(false));
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(anyString())).thenReturn(Mono.empty());
+
+        authService = new AuthService();
+        ReflectionTestUtils.setField(authService, "passwordHashingService", passwordHashingService);
+        ReflectionTestUtils.setField(authService, "userRepository", userRepository);
+        authService.init();
+    }
+
+    @Test
+    public void testFailedDummyHashIsNotCached() {
+        LoginRequest request = new LoginRequest("ninguem@ford.com", "Password@123");
+
+        StepVerifier.create(authService.login(request))
+                .expectError(PasswordHashingUnavailableException.class)
+                .verify();
+        StepVerifier.create(authService.login(request))
+                .expectError(InvalidCredentialsException.class)
+                .verify();
+        StepVerifier.create(authService.login(request))
+                .expectError(InvalidCredentialsException.class)
+                .verify();
+
+        assertEquals(2, encodeCalls.get());
+    }
+}
@@ -0,0 +1,61 @@
+package com.ford.usermanagement.reactive.service;
+
+import com.ford.usermanagement.reactive.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingServiceTest {
+
+    private PasswordHashingService service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new PasswordHashingService();
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "strength", 10);
+        ReflectionTestUtils.setField(service, "threads", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 1);
+        ReflectionTestUtils.setField(service, "timeoutMillis", 10000L);
+        service.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void testEncodeRunsOffTheCallerThread() {
+        String caller = Thread.currentThread().getName();
+
+        StepVerifier.create(service.encode("Password@123")
+                        .flatMap(hash -> service.matches("Password@123", hash)
+                                .map(matches -> matches && !Thread.currentThread().getName().equals(caller))))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testSaturatedSchedulerFailsFast() {
+        List<Object> results = Flux.range(0, 8)
+                .flatMap(i -> service.encode("Password@123")
+                        .<Object>map(hash -> hash)
+                        .onErrorResume(PasswordHashingUnavailableException.class, Mono::just))
+                .collectList()
+                .block();
+
+        assertNotNull(results);
+        assertTrue(results.stream().anyMatch(String.class::isInstance));
+        assertTrue(results.stream().anyMatch(PasswordHashingUnavailableException.class::isInstance));
+    }
+}
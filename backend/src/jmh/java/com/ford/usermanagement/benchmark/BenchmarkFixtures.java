@@ -0,0 +1,37 @@
+package com.ford.usermanagement.benchmark;
+
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.service.JwtService;
+import com.ford.usermanagement.service.JwtTestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.LocalDateTime;
+
+/**
+ * Monta os serviços do caminho de autenticação fora do contexto Spring,
+ * com a mesma configuração padrão de application.properties.
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET = "benchmark-secret-key-for-jwt-token-256-bits";
+
+    static final MeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
+
+    private BenchmarkFixtures() {}
+
+    static JwtService jwtService() {
+        return JwtTestFixtures.jwtService(JwtTestFixtures.signingKeys(SECRET, 3), METER_REGISTRY,
+                86400000L, 10000L);
+    }
+
+    static User user() {
+        User user = new User("Administrador Ford", "admin@ford.com",
+                "$2a$10$8K1p/a1Zy1b1Zy1b1Zy1bOKqzQzFX/.N1seUOQY1QQ1QWQgE8cMdG");
+        user.setId(1L);
+        user.setSecurityVersion(0);
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        user.setUpdatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        return user;
+    }
+}
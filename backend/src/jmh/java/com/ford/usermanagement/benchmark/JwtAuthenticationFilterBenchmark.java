@@ -0,0 +1,100 @@
+package com.ford.usermanagement.benchmark;
+
+import com.ford.usermanagement.config.JwtAuthenticationFilter;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.service.JwtService;
+import com.ford.usermanagement.service.SecurityVersionRegistry;
+import com.ford.usermanagement.service.TokenRevocationService;
+import com.ford.usermanagement.service.UserDetailsServiceImpl;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Custo do filtro JWT por requisição, com repositório e cadeia de filtros simulados.
+ * {@code claimsAuthoritative=false} inclui a chamada (simulada) ao UserDetailsService.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean claimsAuthoritative;
+
+    private JwtAuthenticationFilter filter;
+
+    private MockHttpServletRequest authenticatedRequest;
+
+    private MockHttpServletRequest publicRequest;
+
+    private MockHttpServletRequest malformedTokenRequest;
+
+    private MockHttpServletResponse response;
+
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtService jwtService = BenchmarkFixtures.jwtService();
+        User user = BenchmarkFixtures.user();
+
+        UserDetailsServiceImpl userDetailsService =
+                Mockito.mock(UserDetailsServiceImpl.class, Mockito.withSettings().stubOnly());
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(user);
+
+        SecurityVersionRegistry securityVersionRegistry = new SecurityVersionRegistry();
+        ReflectionTestUtils.setField(securityVersionRegistry, "jwtExpiration", 86400000L);
+        ReflectionTestUtils.invokeMethod(securityVersionRegistry, "init");
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtService", jwtService);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "securityVersionRegistry", securityVersionRegistry);
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", new TokenRevocationService());
+        ReflectionTestUtils.setField(filter, "claimsAuthoritative", claimsAuthoritative);
+        ReflectionTestUtils.setField(filter, "failureLogInterval", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(filter, "meterRegistry", BenchmarkFixtures.METER_REGISTRY);
+        ReflectionTestUtils.invokeMethod(filter, "initMetrics");
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/users/profile");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+        publicRequest = new MockHttpServletRequest("GET", "/api/health");
+        malformedTokenRequest = new MockHttpServletRequest("GET", "/api/users/profile");
+        malformedTokenRequest.addHeader("Authorization", "Bearer not.a.jwt");
+        response = new MockHttpServletResponse();
+        chain = Mockito.mock(FilterChain.class, Mockito.withSettings().stubOnly());
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void authenticatedRequest() throws Exception {
+        filter.doFilter(authenticatedRequest, response, chain);
+    }
+
+    @Benchmark
+    public void publicRequest() throws Exception {
+        filter.doFilter(publicRequest, response, chain);
+    }
+
+    @Benchmark
+    public void malformedTokenRequest() throws Exception {
+        filter.doFilter(malformedTokenRequest, response, chain);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ford.usermanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.dto.LoginResponse;
+import com.ford.usermanagement.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização JSON das respostas de perfil e login, com o ObjectMapper configurado como no Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private UserResponse userResponse;
+
+    private LoginResponse loginResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        userResponse = new UserResponse(BenchmarkFixtures.user());
+        loginResponse = new LoginResponse(
+                BenchmarkFixtures.jwtService().generateToken(BenchmarkFixtures.user()), userResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeUserResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(userResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeLoginResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(loginResponse);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ford.usermanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dimensiona os pools Hikari quando {@code app.datasource.pool.auto-size=true},
+ * pela fórmula do HikariCP: {@code núcleos do banco * 2 + discos}, limitada à
+ * concorrência esperada de requisições que usam o banco. Pools maiores só
+ * aumentam a disputa no servidor; o excedente espera no pool, onde o
+ * {@code connection-timeout} curto o transforma em 503.
+ * O pool fica fixo ({@code minimum-idle} igual ao máximo), como recomenda o Hikari.
+ */
+@Component
+public class ConnectionPoolSizer implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolSizer.class);
+
+    @Value("${app.datasource.pool.auto-size:false}")
+    private boolean autoSize;
+
+    /** Núcleos do servidor de banco; zero usa os núcleos desta máquina como aproximação. */
+    @Value("${app.datasource.pool.db-cores:0}")
+    private int dbCores;
+
+    @Value("${app.datasource.pool.spindles:1}")
+    private int spindles;
+
+    /** Requisições simultâneas esperadas que usam o banco; zero dispensa o limite. */
+    @Value("${app.datasource.pool.expected-concurrency:0}")
+    private int expectedConcurrency;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (autoSize && bean instanceof HikariDataSource dataSource) {
+            int size = poolSize();
+            dataSource.setMaximumPoolSize(size);
+            dataSource.setMinimumIdle(size);
+            // O nome do pool só é atribuído pelo Hikari na primeira conexão; o do bean já existe
+            log.info("Pool do bean {} dimensionado com {} conexões", beanName, size);
+        }
+        return bean;
+    }
+
+    int poolSize() {
+        int cores = dbCores > 0 ? dbCores : Runtime.getRuntime().availableProcessors();
+        int size = cores * 2 + spindles;
+        return expectedConcurrency > 0 ? Math.min(size, expectedConcurrency) : size;
+    }
+}
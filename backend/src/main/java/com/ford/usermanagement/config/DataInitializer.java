@@ -1,19 +1,28 @@
 package com.ford.usermanagement.config;
 
+import com.ford.usermanagement.model.Role;
 import com.ford.usermanagement.model.User;
-import com.ford.usermanagement.repository.UserRepository;
+import com.ford.usermanagement.repository.UserStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * Configuração para inicialização de dados padrão da aplicação.
  * Este componente garante que usuários de teste sejam criados automaticamente
  * quando a aplicação é iniciada, facilitando o processo de avaliação.
+ * Com {@code app.seed.async=true} a criação roda em segundo plano, no executor
+ * de tarefas da aplicação (encerrado junto com o contexto e em threads virtuais
+ * quando {@code spring.threads.virtual.enabled=true}), e não atrasa o readiness;
+ * com {@code app.seed.enabled=false} nada é consultado na subida.
  */
 @Configuration
 public class DataInitializer {
@@ -21,39 +30,71 @@ public class DataInitializer {
     private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
 
     @Autowired
-    private UserRepository userRepository;
+    private UserStore userStore;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private TaskExecutor taskExecutor;
+
+    @Value("${app.seed.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.seed.async:false}")
+    private boolean async;
+
     @Bean
     public ApplicationRunner initDatabase() {
         return args -> {
-            log.info("🚀 Iniciando configuração de dados padrão...");
-            
-            // Criar usuário administrador
-            createUserIfNotExists(
-                "Administrador Ford",
-                "admin@ford.com", 
-                "NewPass123!",
-                "Usuário administrador criado automaticamente para testes"
-            );
-            
-            
-            log.info("✅ Configuração de dados padrão concluída!");
-            log.info("📋 Credenciais disponíveis:");
-            log.info("   👤 Admin: admin@ford.com / NewPass123!");
+            if (!enabled) {
+                log.info("ℹ️  Criação de dados padrão desabilitada");
+                return;
+            }
+            if (async) {
+                taskExecutor.execute(this::seedSafely);
+            } else {
+                seed();
+            }
         };
     }
 
-    private void createUserIfNotExists(String name, String email, String plainPassword, String description) {
-        if (userRepository.findByEmail(email).isEmpty()) {
+    private void seedSafely() {
+        try {
+            seed();
+        } catch (RuntimeException ex) {
+            log.error("❌ Falha na configuração de dados padrão", ex);
+        }
+    }
+
+    private void seed() {
+        log.info("🚀 Iniciando configuração de dados padrão...");
+
+        // Criar usuário administrador
+        createUserIfNotExists(
+            "Administrador Ford",
+            "admin@ford.com",
+            "NewPass123!",
+            Role.ADMIN,
+            "Usuário administrador criado automaticamente para testes"
+        );
+
+        log.info("✅ Configuração de dados padrão concluída!");
+        log.info("📋 Credenciais disponíveis:");
+        log.info("   👤 Admin: admin@ford.com / NewPass123!");
+    }
+
+    private void createUserIfNotExists(String name, String email, String plainPassword, Role role,
+                                       String description) {
+        if (userStore.findByEmail(email).isEmpty()) {
             User user = new User();
             user.setName(name);
             user.setEmail(email);
             user.setPassword(passwordEncoder.encode(plainPassword));
+            user.setRole(role);
             
-            userRepository.save(user);
+            userStore.save(user);
             log.info("✅ {} criado: {}", description, email);
         } else {
             log.info("ℹ️  Usuário já existe: {}", email);
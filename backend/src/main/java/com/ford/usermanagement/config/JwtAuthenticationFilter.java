@@ -1,77 +1,302 @@
 package com.ford.usermanagement.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.exception.GlobalExceptionHandler.ErrorResponse;
+import com.ford.usermanagement.model.User;
 import com.ford.usermanagement.service.JwtService;
+import com.ford.usermanagement.service.SecurityVersionRegistry;
+import com.ford.usermanagement.service.TokenRevocationService;
+import com.ford.usermanagement.service.TokenVerification;
 import com.ford.usermanagement.service.UserDetailsServiceImpl;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.logging.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /** Tokens emitidos aqui têm poucas centenas de bytes; acima disso nem são analisados. */
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    /** Sem estado, então uma instância serve a todas as requisições. */
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
+    private static final String[] PUBLIC_PREFIXES = publicPrefixes();
+
     @Autowired
     private JwtService jwtService;
 
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.jwt.claims-authoritative:false}")
+    private boolean claimsAuthoritative;
+
+    @Value("${app.jwt.failure-log-interval:1m}")
+    private Duration failureLogInterval;
+
+    private final Map<TokenVerification.Status, Rejection> rejections = new EnumMap<>(TokenVerification.Status.class);
+
+    private Rejection revokedTokens;
+
+    private Rejection oversizedTokens;
+
+    @PostConstruct
+    void initMetrics() {
+        rejections.put(TokenVerification.Status.EXPIRED, rejection("expired", "Token JWT expirado"));
+        rejections.put(TokenVerification.Status.UNSUPPORTED, rejection("unsupported", "Token JWT não suportado"));
+        rejections.put(TokenVerification.Status.MALFORMED, rejection("malformed", "Token JWT inválido"));
+        rejections.put(TokenVerification.Status.INVALID_SIGNATURE, rejection("signature", "Assinatura JWT inválida"));
+        rejections.put(TokenVerification.Status.INVALID, rejection("invalid", "Token JWT vazio ou inválido"));
+        revokedTokens = rejection("revoked", "Token JWT revogado");
+        oversizedTokens = rejection("invalid", "Token JWT acima do tamanho máximo");
+    }
+
+    private Rejection rejection(String reason, String message) {
+        Counter counter = Counter.builder("auth.jwt.failures")
+                .description("Tokens JWT rejeitados pelo filtro de autenticação")
+                .tag("reason", reason)
+                .register(meterRegistry);
+        return new Rejection(counter, message, failureLogInterval.toNanos());
+    }
+
+    /**
+     * Rotas públicas não leem o usuário autenticado: o filtro é pulado sem
+     * olhar o cabeçalho.
+     */
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+        for (String prefix : PUBLIC_PREFIXES) {
+            if (matches(uri, offset, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt)) {
-                String username = jwtService.extractUsername(jwt);
-
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                    if (jwtService.validateToken(jwt, userDetails)) {
-                        UsernamePasswordAuthenticationToken authentication = 
-                            new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities()
-                            );
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    }
+        String jwt = getJwtFromRequest(request);
+
+        if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                authenticate(jwt, request);
+            } catch (RuntimeException ex) {
+                // Fora do DispatcherServlet o GlobalExceptionHandler não vê a exceção:
+                // pool esgotado ao carregar o usuário vira o mesmo 503 dos controllers
+                if (!isConnectionTimeout(ex)) {
+                    throw ex;
                 }
+                rejectDatabaseUnavailable(response);
+                return;
             }
-        } catch (ExpiredJwtException ex) {
-            logger.error("Token JWT expirado");
-        } catch (UnsupportedJwtException ex) {
-            logger.error("Token JWT não suportado");
-        } catch (MalformedJwtException ex) {
-            logger.error("Token JWT inválido");
-        } catch (SignatureException ex) {
-            logger.error("Assinatura JWT inválida");
-        } catch (IllegalArgumentException ex) {
-            logger.error("JWT token compact of handler are invalid");
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private static boolean isConnectionTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rejectDatabaseUnavailable(HttpServletResponse response) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Serviço temporariamente indisponível",
+                "Banco de dados sobrecarregado. Tente novamente em instantes.",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                LocalDateTime.now(),
+                null
+        );
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private void authenticate(String jwt, HttpServletRequest request) {
+        TokenVerification verification = jwtService.verifyToken(jwt);
+        if (!verification.isValid()) {
+            rejections.get(verification.getStatus()).record(logger);
+            return;
+        }
+
+        Claims claims = verification.getClaims();
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            revokedTokens.record(logger);
+            return;
+        }
+        if (claims.getSubject() == null) {
+            return;
+        }
+
+        UserDetails userDetails = claimsAuthoritative ? loadUserFromClaims(claims) : null;
+        if (userDetails == null) {
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+
+        if (jwtService.validateToken(claims, userDetails)) {
+            UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities()
+                );
+            authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+    }
+
+    /**
+     * No modo "claims-authoritative" o principal vem do próprio token. O banco só é
+     * consultado quando o carimbo de versão do token está desatualizado.
+     */
+    private UserDetails loadUserFromClaims(Claims claims) {
+        User principal = jwtService.extractPrincipal(claims);
+        if (principal == null
+                || securityVersionRegistry.isStale(principal.getId(), principal.getSecurityVersion())) {
+            return null;
+        }
+        return principal;
+    }
+
+    /**
+     * Extrai o token sem cópias intermediárias: o esquema é comparado no próprio
+     * cabeçalho (sem diferenciar maiúsculas, como define a RFC 6750) e a única
+     * alocação é o token devolvido.
+     */
     private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+
+        int start = BEARER_PREFIX.length();
+        int end = header.length();
+        while (start < end && header.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && header.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        if (end - start > MAX_TOKEN_LENGTH) {
+            oversizedTokens.record(logger);
+            return null;
+        }
+        return header.substring(start, end);
+    }
+
+    /**
+     * Converte os padrões de {@link SecurityConfig#PUBLIC_PATHS}: {@code /x/**}
+     * vira o prefixo {@code /x/} (e casa também {@code /x}); os demais casam
+     * apenas o caminho exato.
+     */
+    private static String[] publicPrefixes() {
+        String[] prefixes = new String[SecurityConfig.PUBLIC_PATHS.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            String path = SecurityConfig.PUBLIC_PATHS[i];
+            prefixes[i] = path.endsWith("/**") ? path.substring(0, path.length() - 2) : path;
+        }
+        return prefixes;
+    }
+
+    private static boolean matches(String uri, int offset, String pattern) {
+        int length = uri.length() - offset;
+        if (pattern.endsWith("/")) {
+            return uri.startsWith(pattern, offset)
+                    || (length == pattern.length() - 1 && uri.regionMatches(offset, pattern, 0, length));
+        }
+        return length == pattern.length() && uri.startsWith(pattern, offset);
+    }
+
+    /**
+     * Motivo de rejeição: o contador registra todas as ocorrências, mas o log
+     * sai no máximo uma vez por {@code app.jwt.failure-log-interval}, com o
+     * total suprimido, para que tokens inválidos repetidos não inundem o log.
+     */
+    private static final class Rejection {
+
+        private final Counter counter;
+
+        private final String message;
+
+        private final long logIntervalNanos;
+
+        private final AtomicLong nextLogAt = new AtomicLong(System.nanoTime());
+
+        private final LongAdder suppressed = new LongAdder();
+
+        Rejection(Counter counter, String message, long logIntervalNanos) {
+            this.counter = counter;
+            this.message = message;
+            this.logIntervalNanos = logIntervalNanos;
+        }
+
+        void record(Log log) {
+            counter.increment();
+            long now = System.nanoTime();
+            long next = nextLogAt.get();
+            if (now - next < 0 || !nextLogAt.compareAndSet(next, now + logIntervalNanos)) {
+                suppressed.increment();
+                return;
+            }
+            long skipped = suppressed.sumThenReset();
+            if (skipped > 0) {
+                log.warn(message + " (mais " + skipped + " ocorrências desde o último registro)");
+            } else {
+                log.warn(message);
+            }
         }
-        return null;
     }
 }
@@ -0,0 +1,221 @@
+package com.ford.usermanagement.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.exception.GlobalExceptionHandler.ErrorResponse;
+import com.ford.usermanagement.service.RateLimitStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Limita tentativas de login por IP e por email antes de qualquer consulta ao
+ * banco ou verificação BCrypt. Roda antes do {@link JwtAuthenticationFilter}
+ * e responde 429 com {@code Retry-After} quando um dos buckets está vazio.
+ */
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+
+    /** Uma requisição de login legítima tem poucas centenas de bytes. */
+    private static final int MAX_BODY_BYTES = 4096;
+
+    @Autowired
+    private RateLimitStore rateLimitStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.security.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${app.security.rate-limit.ip.period:1m}")
+    private Duration ipPeriod;
+
+    @Value("${app.security.rate-limit.email.capacity:10}")
+    private int emailCapacity;
+
+    @Value("${app.security.rate-limit.email.period:15m}")
+    private Duration emailPeriod;
+
+    private Counter ipRejections;
+
+    private Counter emailRejections;
+
+    @PostConstruct
+    void initMetrics() {
+        ipRejections = rejectionCounter("ip");
+        emailRejections = rejectionCounter("email");
+    }
+
+    private Counter rejectionCounter(String key) {
+        return Counter.builder("auth.rate_limit.rejected")
+                .description("Tentativas de login recusadas pelo limitador")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"POST".equals(request.getMethod())
+                || !LOGIN_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Duration wait = rateLimitStore.tryConsume("ip:" + request.getRemoteAddr(), ipCapacity, ipPeriod);
+        if (!wait.isZero()) {
+            ipRejections.increment();
+            reject(response, wait);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = CachedBodyRequest.wrap(request);
+        if (cachedRequest == null) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        String email = extractEmail(cachedRequest.body);
+        if (email != null) {
+            wait = rateLimitStore.tryConsume("email:" + email, emailCapacity, emailPeriod);
+            if (!wait.isZero()) {
+                emailRejections.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, Duration wait) throws IOException {
+        long seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Muitas tentativas",
+                "Muitas tentativas de login. Tente novamente em " + seconds + " segundos.",
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                LocalDateTime.now(),
+                null
+        );
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Requisição com o corpo já lido, para que o email possa ser extraído aqui
+     * e o controller ainda consiga desserializar o mesmo corpo.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /**
+         * Retorna {@code null} quando o corpo é maior que {@link #MAX_BODY_BYTES}.
+         */
+        static CachedBodyRequest wrap(HttpServletRequest request) throws IOException {
+            if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            return body.length <= MAX_BODY_BYTES ? new CachedBodyRequest(request, body) : null;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ford.usermanagement.config;
+
+import com.ford.usermanagement.dto.ChangePasswordRequest;
+import com.ford.usermanagement.dto.LoginRequest;
+import com.ford.usermanagement.dto.LoginResponse;
+import com.ford.usermanagement.dto.RefreshTokenRequest;
+import com.ford.usermanagement.dto.RegisterRequest;
+import com.ford.usermanagement.dto.UpdateProfileRequest;
+import com.ford.usermanagement.dto.UserImportReport;
+import com.ford.usermanagement.dto.UserImportResult;
+import com.ford.usermanagement.dto.UserPageResponse;
+import com.ford.usermanagement.dto.UserRebalanceReport;
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.exception.GlobalExceptionHandler.ErrorResponse;
+import com.ford.usermanagement.model.User;
+import db.migration.V2__Add_user_version_columns;
+import db.migration.V4__Add_query_indexes;
+import db.migration.V5__Drop_redundant_email_index;
+import db.migration.V6__Add_user_role;
+import db.migration.V8__Add_users_updated_at_index;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.NativeDetector;
+
+/**
+ * Suporte à imagem nativa do GraalVM (perfil Maven {@code native}). As dicas
+ * cobrem o que o processamento AOT não descobre sozinho: DTOs serializados fora
+ * dos controllers, as classes que o jjwt instancia por nome e os recursos da
+ * Swagger UI. Na JVM nada muda.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+public class NativeImageConfig {
+
+    /**
+     * A imagem nativa não permite varrer o classpath em busca de migrações Java,
+     * então elas são registradas explicitamente; sem isso o Flyway acusaria as
+     * versões já aplicadas como desconhecidas.
+     */
+    @Bean
+    FlywayConfigurationCustomizer nativeJavaMigrations() {
+        return configuration -> {
+            if (NativeDetector.inNativeImage()) {
+                configuration.javaMigrations(new V2__Add_user_version_columns(), new V4__Add_query_indexes(),
+                        new V5__Drop_redundant_email_index(), new V6__Add_user_role(),
+                        new V8__Add_users_updated_at_index());
+            }
+        };
+    }
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final String[] JJWT_TYPES = {
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+                "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    User.class,
+                    ChangePasswordRequest.class,
+                    LoginRequest.class,
+                    LoginResponse.class,
+                    RefreshTokenRequest.class,
+                    RegisterRequest.class,
+                    UpdateProfileRequest.class,
+                    UserImportReport.class,
+                    UserImportResult.class,
+                    UserPageResponse.class,
+                    UserRebalanceReport.class,
+                    UserResponse.class,
+                    ErrorResponse.class);
+
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            hints.resources()
+                    .registerPattern("META-INF/services/io.jsonwebtoken.*")
+                    .registerPattern("META-INF/resources/webjars/swagger-ui/**")
+                    .registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+        }
+    }
+}
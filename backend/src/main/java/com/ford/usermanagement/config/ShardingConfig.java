@@ -0,0 +1,105 @@
+package com.ford.usermanagement.config;
+
+import com.ford.usermanagement.repository.UserShard;
+import com.ford.usermanagement.repository.UserShards;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Shards da tabela {@code users}, ativados com {@code app.sharding.enabled=true}.
+ * Cada shard tem o próprio pool e recebe as migrações do Flyway na subida; as
+ * demais tabelas (tokens, auditoria) continuam no datasource principal.
+ * <p>
+ * {@code app.sharding.shards} lista os shards como {@code nome=jdbcUrl}
+ * separados por vírgula. O nome posiciona o shard no anel, então não deve
+ * mudar depois que houver dados; {@code app.sharding.draining} lista os que
+ * estão sendo esvaziados.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingConfig implements DisposableBean {
+
+    @Value("${app.sharding.shards}")
+    private String shards;
+
+    @Value("${app.sharding.draining:}")
+    private String draining;
+
+    @Value("${app.sharding.virtual-nodes:128}")
+    private int virtualNodes;
+
+    @Value("${app.sharding.username:${spring.datasource.username:}}")
+    private String username;
+
+    @Value("${app.sharding.password:${spring.datasource.password:}}")
+    private String password;
+
+    @Value("${app.sharding.pool-size:10}")
+    private int poolSize;
+
+    @Value("${spring.datasource.hikari.connection-timeout:30000}")
+    private long connectionTimeout;
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+
+    @Bean
+    public UserShards userShards() {
+        Set<String> drainingNames = Arrays.stream(draining.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+
+        List<UserShard> userShards = new ArrayList<>();
+        for (String entry : shards.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("Shard inválido em app.sharding.shards: '" + entry.trim()
+                        + "' (formato esperado: nome=jdbcUrl)");
+            }
+            String name = entry.substring(0, separator).trim();
+            HikariDataSource dataSource = dataSource(name, entry.substring(separator + 1).trim());
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("1")
+                    .load()
+                    .migrate();
+            userShards.add(new UserShard(name, new JdbcTemplate(dataSource),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                    drainingNames.contains(name)));
+        }
+        return new UserShards(userShards, virtualNodes);
+    }
+
+    private HikariDataSource dataSource(String name, String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setConnectionTimeout(connectionTimeout);
+        dataSource.setPoolName("shard-" + name);
+        dataSources.add(dataSource);
+        return dataSource;
+    }
+
+    @Override
+    public void destroy() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
@@ -1,11 +1,33 @@
 package com.ford.usermanagement.controller;
 
+import com.ford.usermanagement.dto.UserFileFormat;
+import com.ford.usermanagement.dto.UserImportReport;
+import com.ford.usermanagement.dto.UserPageResponse;
+import com.ford.usermanagement.dto.UserRebalanceReport;
+import com.ford.usermanagement.model.AuditEventType;
 import com.ford.usermanagement.model.User;
-import com.ford.usermanagement.repository.UserRepository;
+import com.ford.usermanagement.repository.ShardedUserStore;
+import com.ford.usermanagement.repository.UserStore;
+import com.ford.usermanagement.service.AuditService;
+import com.ford.usermanagement.service.RefreshTokenService;
+import com.ford.usermanagement.service.SecurityVersionRegistry;
+import com.ford.usermanagement.service.UserExportService;
+import com.ford.usermanagement.service.UserImportService;
+import com.ford.usermanagement.service.UserLookupService;
+import com.ford.usermanagement.service.UserSearchService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -13,18 +35,47 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserStore userStore;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private UserLookupService userLookupService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired(required = false)
+    private ShardedUserStore shardedUserStore;
+
     @PostMapping("/reset-password")
     public ResponseEntity<?> resetAdminPassword() {
         try {
-            User admin = userRepository.findByEmail("admin@ford.com").orElse(null);
+            User admin = userStore.findByEmail("admin@ford.com").orElse(null);
             if (admin != null) {
                 admin.setPassword(passwordEncoder.encode("NewPass123!"));
-                userRepository.save(admin);
+                admin.setSecurityVersion(admin.getSecurityVersion() + 1);
+                userStore.save(admin);
+                userLookupService.evict(admin);
+                securityVersionRegistry.record(admin.getId(), admin.getSecurityVersion());
+                refreshTokenService.revokeAllForUser(admin.getId());
+                auditService.record(AuditEventType.ADMIN_PASSWORD_RESET, admin.getId(), admin.getEmail());
                 return ResponseEntity.ok("Password reset successfully");
             }
             return ResponseEntity.notFound().build();
@@ -32,4 +83,99 @@ public class AdminController {
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
+
+    @GetMapping("/users")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserPageResponse> listUsers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userSearchService.search(q, cursor, size));
+    }
+
+    @GetMapping("/users/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "NDJSON") UserFileFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                // A resposta muda com o Accept-Encoding; caches intermediários precisam saber
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + format.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(output -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024);
+                userExportService.export(compressed, format);
+                compressed.finish();
+            } else {
+                userExportService.export(output, format);
+            }
+        });
+    }
+
+    @PostMapping(value = "/users/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserImportReport> importUsersCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(body, UserFileFormat.CSV));
+    }
+
+    @PostMapping(value = "/users/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserImportReport> importUsersNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(body, UserFileFormat.NDJSON));
+    }
+
+    /**
+     * Move cada usuário para o shard dono do seu email, após incluir ou drenar
+     * um shard. Sem shards configurados não há o que redistribuir.
+     */
+    @PostMapping("/users/rebalance")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserRebalanceReport> rebalanceUsers(@RequestParam(defaultValue = "500") int batchSize) {
+        if (shardedUserStore == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(shardedUserStore.rebalance(Math.max(1, batchSize)));
+    }
+
+    /**
+     * Se o cliente aceita gzip, pelos q-values do Accept-Encoding (RFC 9110):
+     * {@code gzip;q=0} recusa, e {@code *} só vale quando o gzip não é citado.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] params = element.split(";");
+            String coding = params[0].trim();
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException ex) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                any = quality;
+            }
+        }
+        return (gzip >= 0 ? gzip : any) > 0;
+    }
 }
@@ -3,11 +3,14 @@ package com.ford.usermanagement.controller;
 import com.ford.usermanagement.dto.*;
 import com.ford.usermanagement.model.User;
 import com.ford.usermanagement.service.AuthService;
+import com.ford.usermanagement.service.ProfileETag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -22,21 +25,28 @@ public class UserController {
     private AuthService authService;
 
     @GetMapping("/profile")
-    @Operation(summary = "Obter perfil", description = "Retorna o perfil do usuário autenticado")
+    @Operation(summary = "Obter perfil", description = "Retorna o perfil do usuário autenticado; responde 304 se o If-None-Match ainda for válido")
     public ResponseEntity<UserResponse> getProfile(Authentication authentication) {
         User user = (User) authentication.getPrincipal();
         UserResponse profile = authService.getUserProfile(user.getEmail());
-        return ResponseEntity.ok(profile);
+        // Com ETag na resposta, o Spring MVC compara o If-None-Match e responde 304 sem serializar o corpo
+        return ResponseEntity.ok()
+                .eTag(ProfileETag.of(profile.getId(), profile.getVersion()))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(profile);
     }
 
     @PutMapping("/profile")
     @Operation(summary = "Atualizar perfil", description = "Atualiza os dados do perfil do usuário")
     public ResponseEntity<UserResponse> updateProfile(
             @Valid @RequestBody UpdateProfileRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
         User user = (User) authentication.getPrincipal();
-        UserResponse updatedProfile = authService.updateProfile(user.getEmail(), request);
-        return ResponseEntity.ok(updatedProfile);
+        UserResponse updatedProfile = authService.updateProfile(user.getEmail(), request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ProfileETag.of(updatedProfile.getId(), updatedProfile.getVersion()))
+                .body(updatedProfile);
     }
 
     @PutMapping("/password")
@@ -4,6 +4,8 @@ public class LoginResponse {
 
     private String token;
     private String type = "Bearer";
+    private String refreshToken;
+    private long expiresIn;
     private UserResponse user;
 
     public LoginResponse() {}
@@ -13,6 +15,13 @@ public class LoginResponse {
         this.user = user;
     }
 
+    public LoginResponse(String token, String refreshToken, long expiresIn, UserResponse user) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+        this.user = user;
+    }
+
     public String getToken() {
         return token;
     }
@@ -29,6 +38,25 @@ public class LoginResponse {
         this.type = type;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    /**
+     * Validade do access token, em segundos.
+     */
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
     public UserResponse getUser() {
         return user;
     }
@@ -41,6 +69,7 @@ public class LoginResponse {
     public String toString() {
         return "LoginResponse{" +
                 "type='" + type + '\'' +
+                ", expiresIn=" + expiresIn +
                 ", user=" + user +
                 '}';
     }
@@ -0,0 +1,28 @@
+package com.ford.usermanagement.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos aceitos na importação e gerados na exportação de usuários.
+ */
+public enum UserFileFormat {
+
+    CSV(new MediaType("text", "csv"), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    UserFileFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ford.usermanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserImportReport {
+
+    private int total;
+    private int created;
+    private int duplicates;
+    private int invalid;
+    private List<UserImportResult> results = new ArrayList<>();
+
+    public UserImportReport() {}
+
+    public void add(UserImportResult result) {
+        results.add(result);
+        total++;
+        switch (result.getStatus()) {
+            case CREATED -> created++;
+            case DUPLICATE -> duplicates++;
+            case INVALID -> invalid++;
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+
+    public void setInvalid(int invalid) {
+        this.invalid = invalid;
+    }
+
+    public List<UserImportResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<UserImportResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public String toString() {
+        return "UserImportReport{" +
+                "total=" + total +
+                ", created=" + created +
+                ", duplicates=" + duplicates +
+                ", invalid=" + invalid +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.ford.usermanagement.dto;
+
+public class UserImportResult {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    private long line;
+    private String email;
+    private Status status;
+    private String message;
+
+    public UserImportResult() {}
+
+    public UserImportResult(long line, String email, Status status, String message) {
+        this.line = line;
+        this.email = email;
+        this.status = status;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "UserImportResult{" +
+                "line=" + line +
+                ", email='" + email + '\'' +
+                ", status=" + status +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,40 @@
+package com.ford.usermanagement.dto;
+
+import java.util.List;
+
+public class UserPageResponse {
+
+    private List<UserResponse> items;
+    private String nextCursor;
+
+    public UserPageResponse() {}
+
+    public UserPageResponse(List<UserResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<UserResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<UserResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "UserPageResponse{" +
+                "items=" + items.size() +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.ford.usermanagement.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resultado de uma redistribuição dos usuários entre shards.
+ */
+public class UserRebalanceReport {
+
+    /**
+     * Linhas lidas; um usuário movido para um shard ainda não percorrido é lido de novo lá.
+     */
+    private long scanned;
+    private long moved;
+    private long conflicts;
+    private Map<String, Long> usersPerShard = new LinkedHashMap<>();
+
+    public UserRebalanceReport() {}
+
+    public long getScanned() {
+        return scanned;
+    }
+
+    public void setScanned(long scanned) {
+        this.scanned = scanned;
+    }
+
+    public long getMoved() {
+        return moved;
+    }
+
+    public void setMoved(long moved) {
+        this.moved = moved;
+    }
+
+    /**
+     * Usuários que não puderam ser movidos porque o shard de destino já tem
+     * outro cadastro com o mesmo email; exigem correção manual.
+     */
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(long conflicts) {
+        this.conflicts = conflicts;
+    }
+
+    public Map<String, Long> getUsersPerShard() {
+        return usersPerShard;
+    }
+
+    public void setUsersPerShard(Map<String, Long> usersPerShard) {
+        this.usersPerShard = usersPerShard;
+    }
+
+    @Override
+    public String toString() {
+        return "UserRebalanceReport{" +
+                "scanned=" + scanned +
+                ", moved=" + moved +
+                ", conflicts=" + conflicts +
+                ", usersPerShard=" + usersPerShard +
+                '}';
+    }
+}
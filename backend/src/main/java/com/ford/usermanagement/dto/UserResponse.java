@@ -1,5 +1,6 @@
 package com.ford.usermanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ford.usermanagement.model.User;
 
 import java.time.LocalDateTime;
@@ -12,14 +13,27 @@ public class UserResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /** Exposta apenas via ETag. */
+    @JsonIgnore
+    private Long version;
+
     public UserResponse() {}
 
+    public UserResponse(Long id, String name, String email, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public UserResponse(User user) {
         this.id = user.getId();
         this.name = user.getName();
         this.email = user.getEmail();
         this.createdAt = user.getCreatedAt();
         this.updatedAt = user.getUpdatedAt();
+        this.version = user.getVersion();
     }
 
     public Long getId() {
@@ -62,6 +76,14 @@ public class UserResponse {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "UserResponse{" +
@@ -0,0 +1,100 @@
+package com.ford.usermanagement.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de auditoria. A tabela é só de inserção: os eventos são gravados em
+ * lote via JDBC pelo {@code AuditService}, e a entidade existe para o
+ * mapeamento do esquema e para consultas.
+ */
+@Entity
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_events_user_id_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_audit_events_created_at", columnList = "created_at")
+})
+public class AuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private AuditEventType type;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(length = 255)
+    private String email;
+
+    @Column(length = 255)
+    private String details;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public AuditEvent() {}
+
+    public AuditEvent(AuditEventType type, Long userId, String email, String details, LocalDateTime createdAt) {
+        this.type = type;
+        this.userId = userId;
+        this.email = email;
+        this.details = details;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public AuditEventType getType() {
+        return type;
+    }
+
+    public void setType(AuditEventType type) {
+        this.type = type;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ford.usermanagement.model;
+
+/**
+ * Tipos de evento de auditoria. Eventos de falha são registrados mesmo quando
+ * a transação da operação é desfeita.
+ */
+public enum AuditEventType {
+    LOGIN_SUCCESS(false),
+    LOGIN_FAILURE(true),
+    LOGOUT(false),
+    REGISTER(false),
+    PROFILE_UPDATE(false),
+    PASSWORD_CHANGE(false),
+    PASSWORD_CHANGE_FAILURE(true),
+    ADMIN_PASSWORD_RESET(false);
+
+    private final boolean failure;
+
+    AuditEventType(boolean failure) {
+        this.failure = failure;
+    }
+
+    public boolean isFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ford.usermanagement.model;
+
+/**
+ * Papel do usuário, exposto ao Spring Security como a authority {@code ROLE_<nome>}.
+ * As rotas {@code /api/admin/**} exigem {@link #ADMIN}.
+ */
+public enum Role {
+    USER,
+    ADMIN;
+
+    public String getAuthority() {
+        return "ROLE_" + name();
+    }
+}
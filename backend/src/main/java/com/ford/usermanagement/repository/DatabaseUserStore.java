@@ -0,0 +1,149 @@
+package com.ford.usermanagement.repository;
+
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Usuários no banco único: leituras e escritas pelo {@link UserRepository};
+ * inserts em lote e a varredura completa por JDBC, fora do contexto de persistência.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseUserStore implements UserStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (name, email, password, security_version, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, 0, 0, ?, ?)";
+
+    private static final String SELECT_ALL_SQL =
+            "SELECT id, name, email, created_at, updated_at FROM users ORDER BY id";
+
+    static final String SELECT_SECURITY_VERSIONS_SQL =
+            "SELECT id, security_version FROM users WHERE updated_at > ?";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return userRepository.findById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return userRepository.existsByEmail(email);
+    }
+
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return userRepository.findExistingEmails(emails);
+    }
+
+    @Override
+    public User save(User user) {
+        return userRepository.saveAndFlush(user);
+    }
+
+    /**
+     * Grava o lote inteiro em um único batch JDBC, já que
+     * {@code GenerationType.IDENTITY} impede o batching de inserts do Hibernate.
+     * Se outro processo cadastrar um dos emails entre a consulta e o insert, o
+     * lote é desfeito e regravado linha a linha para identificar quais colidiram.
+     */
+    @Override
+    public Set<String> insertAll(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Set<String> duplicates = new HashSet<>();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (statement, user) -> {
+                        statement.setString(1, user.getName());
+                        statement.setString(2, user.getEmail());
+                        statement.setString(3, user.getPassword());
+                        statement.setTimestamp(4, now);
+                        statement.setTimestamp(5, now);
+                    }));
+        } catch (DuplicateKeyException ex) {
+            for (User user : users) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, user.getName(), user.getEmail(), user.getPassword(), now, now);
+                } catch (DuplicateKeyException duplicate) {
+                    duplicates.add(user.getEmail());
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    @Override
+    public List<UserResponse> findPage(String prefix, int limit) {
+        return userRepository.findPage(prefix, Limit.of(limit));
+    }
+
+    @Override
+    public List<UserResponse> findPageAfter(String prefix, LocalDateTime createdAt, Long id, int limit) {
+        return userRepository.findPageAfter(prefix, createdAt, id, Limit.of(limit));
+    }
+
+    @Override
+    public void forEachUser(int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> prepareScan(connection, SELECT_ALL_SQL, fetchSize), handler);
+    }
+
+    @Override
+    public Map<Long, Integer> findSecurityVersionsUpdatedAfter(LocalDateTime since) {
+        Map<Long, Integer> versions = new HashMap<>();
+        jdbcTemplate.query(SELECT_SECURITY_VERSIONS_SQL,
+                rs -> { versions.put(rs.getLong("id"), rs.getInt("security_version")); },
+                Timestamp.valueOf(since));
+        return versions;
+    }
+
+    /**
+     * Prepara uma varredura somente-leitura. No MySQL o fetch size
+     * {@link Integer#MIN_VALUE} faz o driver entregar as linhas conforme chegam,
+     * sem carregar o resultado inteiro; assim só esta consulta usa streaming, sem
+     * {@code useCursorFetch} na URL compartilhada por todas as outras. Nos demais
+     * bancos vale o {@code fetchSize} informado.
+     */
+    static PreparedStatement prepareScan(Connection connection, String sql, int fetchSize) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        boolean mysql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+        statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+        return statement;
+    }
+}
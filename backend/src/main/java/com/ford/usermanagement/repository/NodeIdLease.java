@@ -0,0 +1,64 @@
+package com.ford.usermanagement.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reserva do {@code app.sharding.node-id} no banco principal. O id de instância
+ * entra em todo id de usuário ({@link UserIdGenerator}); duas réplicas com o
+ * mesmo valor gerariam ids repetidos no mesmo segundo. A reserva vale por
+ * {@code ttlMillis} desde a última renovação, então o id de uma instância que
+ * caiu sem liberar volta a ficar disponível depois desse prazo.
+ */
+final class NodeIdLease {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sharding_node_leases (node_id, instance_id, renewed_at) VALUES (?, ?, ?)";
+
+    private static final String RENEW_SQL =
+            "UPDATE sharding_node_leases SET instance_id = ?, renewed_at = ? " +
+            "WHERE node_id = ? AND (instance_id = ? OR renewed_at < ?)";
+
+    private static final String RELEASE_SQL =
+            "DELETE FROM sharding_node_leases WHERE node_id = ? AND instance_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int nodeId;
+
+    private final long ttlMillis;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    NodeIdLease(JdbcTemplate jdbcTemplate, int nodeId, long ttlMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeId = nodeId;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Reserva ou renova o id; falha se outra instância o renovou dentro do prazo.
+     */
+    void acquire() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(INSERT_SQL, nodeId, instanceId, now);
+            return;
+        } catch (DuplicateKeyException ex) {
+            // Já reservado: só pode ser esta instância ou uma reserva vencida
+        }
+        LocalDateTime expired = now.minus(Duration.ofMillis(ttlMillis));
+        if (jdbcTemplate.update(RENEW_SQL, instanceId, now, nodeId, instanceId, expired) != 1) {
+            throw new IllegalStateException("app.sharding.node-id " + nodeId
+                    + " já está em uso por outra instância; cada instância precisa de um valor distinto");
+        }
+    }
+
+    void release() {
+        jdbcTemplate.update(RELEASE_SQL, nodeId, instanceId);
+    }
+}
@@ -0,0 +1,512 @@
+package com.ford.usermanagement.repository;
+
+import com.ford.usermanagement.dto.UserRebalanceReport;
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.model.Role;
+import com.ford.usermanagement.model.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Usuários particionados entre vários bancos pelo hash consistente do email
+ * ({@link UserShards}). Cada email tem um único shard dono, então o índice
+ * único de email de cada banco garante a unicidade global: cadastros
+ * concorrentes do mesmo email sempre disputam o mesmo índice. Uma troca de
+ * email que muda o dono move a linha (insert no novo dono, delete no antigo).
+ * <p>
+ * Buscas por email vão a um único shard; por id, listagem e exportação
+ * consultam todos (scatter-gather) em paralelo. Durante uma redistribuição
+ * ({@code app.sharding.resharding=true}) usuários ainda não movidos podem
+ * estar fora do dono, então buscas e verificações de email sem resultado no
+ * dono consultam também os demais shards.
+ * <p>
+ * As escritas usam a conexão de cada shard em auto-commit e não participam
+ * da transação JPA do primário. O {@code app.sharding.node-id} é obrigatório e
+ * fica reservado no primário ({@link NodeIdLease}) enquanto a instância roda.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardedUserStore implements UserStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedUserStore.class);
+
+    private static final String USER_COLUMNS =
+            "id, name, email, password, role, security_version, version, created_at, updated_at";
+
+    private static final String RESPONSE_COLUMNS = "id, name, email, created_at, updated_at";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (" + USER_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET name = ?, email = ?, password = ?, role = ?, security_version = ?, version = ?, " +
+            "updated_at = ? WHERE id = ? AND version = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM users WHERE id = ? AND version = ?";
+
+    private static final RowMapper<User> USER_MAPPER = (rs, rowNum) -> {
+        User user = new User(rs.getString("name"), rs.getString("email"), rs.getString("password"));
+        user.setId(rs.getLong("id"));
+        user.setRole(Role.valueOf(rs.getString("role")));
+        user.setSecurityVersion(rs.getInt("security_version"));
+        user.setVersion(rs.getLong("version"));
+        user.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        user.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        return user;
+    };
+
+    private static final RowMapper<UserResponse> RESPONSE_MAPPER = (rs, rowNum) -> new UserResponse(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("email"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")));
+
+    /** Ordem da listagem: mais recente primeiro, id como desempate. */
+    private static final Comparator<UserResponse> PAGE_ORDER = Comparator
+            .comparing(UserResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(UserResponse::getId, Comparator.reverseOrder());
+
+    @Autowired
+    private UserShards userShards;
+
+    /** Banco principal, onde fica a reserva do node-id. */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.sharding.node-id:#{null}}")
+    private Integer nodeId;
+
+    @Value("${app.sharding.node-lease-ttl:60000}")
+    private long nodeLeaseTtlMillis;
+
+    @Value("${app.sharding.resharding:false}")
+    private boolean resharding;
+
+    private UserIdGenerator idGenerator;
+
+    private NodeIdLease nodeIdLease;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        if (nodeId == null) {
+            throw new IllegalStateException("app.sharding.node-id (DB_SHARDING_NODE_ID) é obrigatório com shards: "
+                    + "cada instância precisa de um valor distinto");
+        }
+        idGenerator = new UserIdGenerator(nodeId);
+        nodeIdLease = new NodeIdLease(jdbcTemplate, nodeId, nodeLeaseTtlMillis);
+        nodeIdLease.acquire();
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(userShards.all().size(), runnable -> {
+            Thread thread = new Thread(runnable, "user-shards-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Renova a reserva bem antes de ela vencer; se outra instância a tomou
+     * (esta ficou parada além do prazo), os ids podem se repetir.
+     */
+    @Scheduled(fixedDelayString = "${app.sharding.node-lease-renew-interval:20000}")
+    void renewNodeIdLease() {
+        try {
+            nodeIdLease.acquire();
+        } catch (RuntimeException ex) {
+            log.error("Falha ao renovar a reserva do node-id {}", nodeId, ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        nodeIdLease.release();
+        executor.shutdown();
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        UserShard owner = userShards.owner(email);
+        Optional<User> user = findByEmail(owner, email);
+        if (user.isPresent() || !resharding) {
+            return user;
+        }
+        return scatter(shard -> shard == owner ? Optional.<User>empty() : findByEmail(shard, email)).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    /**
+     * Os ids não indicam o shard (a linha muda de shard numa redistribuição),
+     * então a busca vai a todos; o {@code UserLookupService} mantém o cache na frente.
+     */
+    @Override
+    public Optional<User> findById(Long id) {
+        return locate(id).map(Located::user);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    @Override
+    public List<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<UserShard, List<String>> byShard = new LinkedHashMap<>();
+        for (UserShard shard : userShards.all()) {
+            byShard.put(shard, new ArrayList<>());
+        }
+        for (String email : emails) {
+            if (resharding) {
+                byShard.values().forEach(list -> list.add(email));
+            } else {
+                byShard.get(userShards.owner(email)).add(email);
+            }
+        }
+
+        return scatter(shard -> {
+            List<String> candidates = byShard.get(shard);
+            if (candidates.isEmpty()) {
+                return Collections.<String>emptyList();
+            }
+            String placeholders = String.join(", ", Collections.nCopies(candidates.size(), "?"));
+            return shard.jdbcTemplate().queryForList(
+                    "SELECT email FROM users WHERE email IN (" + placeholders + ")",
+                    String.class, candidates.toArray());
+        }).stream().flatMap(List::stream).distinct().toList();
+    }
+
+    @Override
+    public User save(User user) {
+        if (user.getId() == null) {
+            return insert(user);
+        }
+
+        UserShard owner = userShards.owner(user.getEmail());
+        long currentVersion = user.getVersion();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = owner.jdbcTemplate().update(UPDATE_SQL,
+                user.getName(), user.getEmail(), user.getPassword(), user.getRole().name(),
+                user.getSecurityVersion(), currentVersion + 1, Timestamp.valueOf(now), user.getId(), currentVersion);
+        if (updated == 1) {
+            user.setVersion(currentVersion + 1);
+            user.setUpdatedAt(now);
+            return user;
+        }
+
+        // A linha não está no dono do email: o email mudou de shard ou a
+        // redistribuição ainda não a moveu
+        Located located = locate(user.getId())
+                .orElseThrow(() -> staleVersion(user));
+        if (located.shard() == owner || located.user().getVersion() != currentVersion) {
+            throw staleVersion(user);
+        }
+        user.setVersion(currentVersion + 1);
+        user.setUpdatedAt(now);
+        move(user, currentVersion, located.shard(), owner);
+        return user;
+    }
+
+    /**
+     * Agrupa o lote pelo shard dono e grava cada grupo em um batch na própria
+     * transação do shard; se um email colidir, o grupo é regravado linha a
+     * linha para identificar quais.
+     */
+    @Override
+    public Set<String> insertAll(List<User> users) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<UserShard, List<User>> byShard = new LinkedHashMap<>();
+        for (User user : users) {
+            user.setId(idGenerator.nextId());
+            user.setVersion(0);
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            byShard.computeIfAbsent(userShards.owner(user.getEmail()), shard -> new ArrayList<>()).add(user);
+        }
+
+        Set<String> duplicates = new HashSet<>();
+        byShard.forEach((shard, group) -> {
+            try {
+                shard.transactionTemplate().executeWithoutResult(status ->
+                        shard.jdbcTemplate().batchUpdate(INSERT_SQL, group, group.size(),
+                                (statement, user) -> {
+                                    Object[] values = insertValues(user);
+                                    for (int i = 0; i < values.length; i++) {
+                                        statement.setObject(i + 1, values[i]);
+                                    }
+                                }));
+            } catch (DuplicateKeyException ex) {
+                for (User user : group) {
+                    try {
+                        shard.jdbcTemplate().update(INSERT_SQL, insertValues(user));
+                    } catch (DuplicateKeyException duplicate) {
+                        duplicates.add(user.getEmail());
+                    }
+                }
+            }
+        });
+        return duplicates;
+    }
+
+    @Override
+    public List<UserResponse> findPage(String prefix, int limit) {
+        return findPage(prefix, null, null, limit);
+    }
+
+    @Override
+    public List<UserResponse> findPageAfter(String prefix, LocalDateTime createdAt, Long id, int limit) {
+        return findPage(prefix, createdAt, id, limit);
+    }
+
+    /**
+     * Cada shard devolve as suas {@code limit} primeiras linhas na ordem da
+     * listagem; a página global são as {@code limit} primeiras da junção.
+     */
+    private List<UserResponse> findPage(String prefix, LocalDateTime createdAt, Long id, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT " + RESPONSE_COLUMNS + " FROM users WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (prefix != null) {
+            sql.append(" AND (name LIKE ? ESCAPE ? OR email LIKE ? ESCAPE ?)");
+            Collections.addAll(args, prefix, "\\", prefix, "\\");
+        }
+        if (createdAt != null) {
+            Timestamp position = Timestamp.valueOf(createdAt);
+            sql.append(" AND (created_at < ? OR (created_at = ? AND id < ?))");
+            Collections.addAll(args, position, position, id);
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        return scatter(shard -> shard.jdbcTemplate().query(sql.toString(), RESPONSE_MAPPER, args.toArray()))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(PAGE_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Consulta todos os shards: numa redistribuição a mesma linha pode estar em
+     * dois deles, e vale a maior versão.
+     */
+    @Override
+    public Map<Long, Integer> findSecurityVersionsUpdatedAfter(LocalDateTime since) {
+        Map<Long, Integer> versions = new HashMap<>();
+        scatter(shard -> shard.jdbcTemplate().query(DatabaseUserStore.SELECT_SECURITY_VERSIONS_SQL,
+                (rs, rowNum) -> Map.entry(rs.getLong("id"), rs.getInt("security_version")),
+                Timestamp.valueOf(since)))
+                .forEach(rows -> rows.forEach(row -> versions.merge(row.getKey(), row.getValue(), Math::max)));
+        return versions;
+    }
+
+    /**
+     * Percorre os shards um de cada vez, cada um em ordem de id.
+     */
+    @Override
+    public void forEachUser(int fetchSize, RowCallbackHandler handler) {
+        for (UserShard shard : userShards.all()) {
+            shard.jdbcTemplate().query(connection -> DatabaseUserStore.prepareScan(
+                    connection, "SELECT " + RESPONSE_COLUMNS + " FROM users ORDER BY id", fetchSize), handler);
+        }
+    }
+
+    /**
+     * Move para o shard dono cada usuário que está em outro shard, depois de
+     * incluir ou drenar um shard. Roda com a aplicação no ar: cada linha é
+     * copiada para o dono e só então apagada da origem, condicionada à versão
+     * copiada; se ela mudou no meio, a cópia é desfeita e a linha fica para a
+     * próxima execução. Pode ser repetida sem efeitos colaterais.
+     */
+    public UserRebalanceReport rebalance(int batchSize) {
+        UserRebalanceReport report = new UserRebalanceReport();
+        for (UserShard source : userShards.all()) {
+            long lastId = 0;
+            List<User> batch;
+            do {
+                batch = source.jdbcTemplate().query(
+                        "SELECT " + USER_COLUMNS + " FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                        USER_MAPPER, lastId, batchSize);
+                for (User user : batch) {
+                    report.setScanned(report.getScanned() + 1);
+                    UserShard owner = userShards.owner(user.getEmail());
+                    if (owner != source) {
+                        rebalanceRow(user, source, owner, report);
+                    }
+                    lastId = user.getId();
+                }
+            } while (batch.size() == batchSize);
+        }
+        report.setUsersPerShard(countPerShard());
+        log.info("Redistribuição de usuários concluída: {}", report);
+        return report;
+    }
+
+    public Map<String, Long> countPerShard() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        List<Long> results = scatter(shard -> shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM users", Long.class));
+        for (int i = 0; i < results.size(); i++) {
+            counts.put(userShards.all().get(i).name(), results.get(i));
+        }
+        return counts;
+    }
+
+    private void rebalanceRow(User user, UserShard source, UserShard owner, UserRebalanceReport report) {
+        try {
+            owner.jdbcTemplate().update(INSERT_SQL, insertValues(user));
+        } catch (DuplicateKeyException ex) {
+            Optional<User> copy = findById(owner, user.getId());
+            if (copy.isEmpty()) {
+                log.warn("Usuário {} não movido de {} para {}: email já cadastrado no destino",
+                        user.getId(), source, owner);
+                report.setConflicts(report.getConflicts() + 1);
+                return;
+            }
+            // Cópia de uma execução anterior interrompida antes do delete
+        }
+
+        if (source.jdbcTemplate().update(DELETE_SQL, user.getId(), user.getVersion()) == 1) {
+            report.setMoved(report.getMoved() + 1);
+        } else {
+            owner.jdbcTemplate().update(DELETE_SQL, user.getId(), user.getVersion());
+        }
+    }
+
+    private User insert(User user) {
+        if (resharding && existsByEmail(user.getEmail())) {
+            throw new DuplicateKeyException("Email já cadastrado em outro shard: " + user.getEmail());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        user.setId(idGenerator.nextId());
+        user.setVersion(0);
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        userShards.owner(user.getEmail()).jdbcTemplate().update(INSERT_SQL, insertValues(user));
+        return user;
+    }
+
+    /**
+     * Insere a versão nova no dono do email (o índice único recusa um email já
+     * usado lá) e apaga a anterior da origem; se a origem mudou nesse meio
+     * tempo, a cópia é desfeita e a atualização falha por versão.
+     */
+    private void move(User user, long previousVersion, UserShard source, UserShard target) {
+        target.jdbcTemplate().update(INSERT_SQL, insertValues(user));
+        if (source.jdbcTemplate().update(DELETE_SQL, user.getId(), previousVersion) != 1) {
+            target.jdbcTemplate().update(DELETE_SQL, user.getId(), user.getVersion());
+            throw staleVersion(user);
+        }
+    }
+
+    /**
+     * Localiza a linha do id. Uma redistribuição interrompida entre a cópia e
+     * o delete pode deixar duas cópias; vale a que está no dono do email.
+     * Cópias do mesmo usuário mantêm o {@code created_at}; duas linhas com o
+     * mesmo id e emails e datas de criação diferentes são usuários distintos
+     * (node-id repetido entre instâncias) e a busca falha em vez de escolher um.
+     */
+    private Optional<Located> locate(Long id) {
+        List<Located> found = new ArrayList<>();
+        List<Optional<User>> results = scatter(shard -> findById(shard, id));
+        for (int i = 0; i < results.size(); i++) {
+            UserShard shard = userShards.all().get(i);
+            results.get(i).ifPresent(user -> found.add(new Located(shard, user)));
+        }
+        for (Located copy : found) {
+            User first = found.get(0).user();
+            if (!copy.user().getEmail().equalsIgnoreCase(first.getEmail())
+                    && !Objects.equals(copy.user().getCreatedAt(), first.getCreatedAt())) {
+                log.error("Id de usuário {} repetido entre {} e {}", id, found.get(0).shard(), copy.shard());
+                throw new IllegalStateException("Id de usuário " + id + " pertence a usuários diferentes nos shards "
+                        + found.get(0).shard() + " e " + copy.shard());
+            }
+        }
+        return found.stream()
+                .filter(located -> userShards.owner(located.user().getEmail()) == located.shard())
+                .findFirst()
+                .or(() -> found.stream().findFirst());
+    }
+
+    private static Optional<User> findByEmail(UserShard shard, String email) {
+        return shard.jdbcTemplate().query("SELECT " + USER_COLUMNS + " FROM users WHERE email = ?",
+                USER_MAPPER, email).stream().findFirst();
+    }
+
+    private static Optional<User> findById(UserShard shard, Long id) {
+        return shard.jdbcTemplate().query("SELECT " + USER_COLUMNS + " FROM users WHERE id = ?",
+                USER_MAPPER, id).stream().findFirst();
+    }
+
+    /**
+     * Executa a consulta em todos os shards em paralelo; os resultados vêm na
+     * ordem de {@link UserShards#all()}.
+     */
+    private <T> List<T> scatter(Function<UserShard, T> query) {
+        List<CompletableFuture<T>> futures = userShards.all().stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), executor))
+                .toList();
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+    }
+
+    private static Object[] insertValues(User user) {
+        return new Object[] {
+                user.getId(), user.getName(), user.getEmail(), user.getPassword(), user.getRole().name(),
+                user.getSecurityVersion(),
+                user.getVersion(), Timestamp.valueOf(user.getCreatedAt()), Timestamp.valueOf(user.getUpdatedAt())
+        };
+    }
+
+    private static OptimisticLockingFailureException staleVersion(User user) {
+        return new OptimisticLockingFailureException(
+                "Usuário " + user.getId() + " foi alterado ou removido por outra requisição");
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private record Located(UserShard shard, User user) {}
+}
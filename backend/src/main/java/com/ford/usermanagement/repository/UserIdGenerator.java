@@ -0,0 +1,67 @@
+package com.ford.usermanagement.repository;
+
+import java.time.Instant;
+
+/**
+ * Ids de usuário únicos entre shards, gerados na aplicação: o AUTO_INCREMENT
+ * de cada banco repetiria valores, e o id aparece no JWT, no ETag e nas
+ * tabelas do primário. Formato: segundos desde 2024 (32 bits), instância da
+ * aplicação (7 bits) e sequência no segundo (14 bits). O total cabe em 53
+ * bits, então o id continua exato como número no JSON lido pelo frontend.
+ */
+final class UserIdGenerator {
+
+    private static final long EPOCH_SECONDS = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+
+    private static final int NODE_BITS = 7;
+
+    private static final int SEQUENCE_BITS = 14;
+
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    private long lastSecond = -1;
+
+    private long sequence;
+
+    UserIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.sharding.node-id deve estar entre 0 e " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    synchronized long nextId() {
+        long second = currentSecond();
+        if (second < lastSecond) {
+            // Relógio voltou: continua no último segundo usado em vez de repetir ids
+            second = lastSecond;
+        }
+        if (second == lastSecond) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                second = waitNextSecond(lastSecond);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastSecond = second;
+        return (second << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private long waitNextSecond(long last) {
+        long second = currentSecond();
+        while (second <= last) {
+            Thread.onSpinWait();
+            second = currentSecond();
+        }
+        return second;
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000 - EPOCH_SECONDS;
+    }
+}
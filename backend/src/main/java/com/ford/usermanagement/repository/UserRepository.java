@@ -1,9 +1,16 @@
 package com.ford.usermanagement.repository;
 
+import com.ford.usermanagement.dto.UserResponse;
 import com.ford.usermanagement.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +19,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select new com.ford.usermanagement.dto.UserResponse(u.id, u.name, u.email, u.createdAt, u.updatedAt) " +
+           "from User u " +
+           "where (:prefix is null or u.name like :prefix escape '\\' or u.email like :prefix escape '\\') " +
+           "order by u.createdAt desc, u.id desc")
+    List<UserResponse> findPage(@Param("prefix") String prefix, Limit limit);
+
+    @Query("select new com.ford.usermanagement.dto.UserResponse(u.id, u.name, u.email, u.createdAt, u.updatedAt) " +
+           "from User u " +
+           "where (:prefix is null or u.name like :prefix escape '\\' or u.email like :prefix escape '\\') " +
+           "and (u.createdAt < :createdAt or (u.createdAt = :createdAt and u.id < :id)) " +
+           "order by u.createdAt desc, u.id desc")
+    List<UserResponse> findPageAfter(@Param("prefix") String prefix,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Limit limit);
 }
@@ -0,0 +1,18 @@
+package com.ford.usermanagement.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Um dos bancos da tabela {@code users} particionada. Um shard em drenagem
+ * ({@code draining}) sai do anel: não recebe usuários novos e a
+ * redistribuição move os que restam para os demais.
+ */
+public record UserShard(String name, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                        boolean draining) {
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
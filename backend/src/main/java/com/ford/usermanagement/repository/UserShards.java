@@ -0,0 +1,74 @@
+package com.ford.usermanagement.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Anel de hash consistente sobre os shards de usuários. Cada shard ocupa
+ * {@code virtualNodes} pontos do anel, derivados do seu nome; um email
+ * pertence ao primeiro ponto a partir do hash do próprio email. Incluir ou
+ * drenar um shard só muda o dono das chaves vizinhas aos seus pontos, cerca
+ * de 1/N dos usuários, e os nomes (não a ordem da configuração) definem o anel.
+ */
+public final class UserShards {
+
+    private final List<UserShard> shards;
+
+    private final TreeMap<Long, UserShard> ring = new TreeMap<>();
+
+    public UserShards(List<UserShard> shards, int virtualNodes) {
+        this.shards = List.copyOf(shards);
+        for (UserShard shard : this.shards) {
+            if (shard.draining()) {
+                continue;
+            }
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(shard.name() + "#" + i), shard);
+            }
+        }
+        if (ring.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos um shard de usuários deve estar ativo");
+        }
+    }
+
+    /**
+     * Shard dono do email, sem diferenciar maiúsculas (como o índice único do MySQL).
+     */
+    public UserShard owner(String email) {
+        Map.Entry<Long, UserShard> entry = ring.ceilingEntry(hash(routingKey(email)));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * Todos os shards, inclusive os em drenagem, na ordem da configuração.
+     */
+    public List<UserShard> all() {
+        return shards;
+    }
+
+    static String routingKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Primeiros 8 bytes do MD5: estável entre versões da JVM e instâncias,
+     * ao contrário de {@link String#hashCode()}, e bem distribuído no anel.
+     */
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
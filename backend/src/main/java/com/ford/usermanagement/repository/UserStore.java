@@ -0,0 +1,72 @@
+package com.ford.usermanagement.repository;
+
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.model.User;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Armazenamento de usuários usado pelos serviços. A implementação padrão
+ * ({@link DatabaseUserStore}) usa o banco único via JPA; com
+ * {@code app.sharding.enabled=true}, {@link ShardedUserStore} distribui os
+ * usuários entre vários bancos pelo hash do email.
+ * <p>
+ * Violações do email único saem como {@code DataIntegrityViolationException}
+ * e conflitos de versão como {@code OptimisticLockingFailureException}, nas
+ * duas implementações.
+ */
+public interface UserStore {
+
+    Optional<User> findByEmail(String email);
+
+    Optional<User> findById(Long id);
+
+    boolean existsByEmail(String email);
+
+    /**
+     * Emails, como estão gravados, já cadastrados entre os informados.
+     */
+    List<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Insere ou atualiza o usuário e grava imediatamente, para que as
+     * violações de unicidade e de versão apareçam nesta chamada.
+     */
+    User save(User user);
+
+    /**
+     * Insere um lote de usuários novos. Retorna os emails que já existiam e
+     * por isso não foram gravados; os demais são inseridos.
+     */
+    Set<String> insertAll(List<User> users);
+
+    /**
+     * Primeira página da listagem, do mais recente para o mais antigo.
+     *
+     * @param prefix padrão LIKE já escapado com {@code \}, ou {@code null} para todos
+     */
+    List<UserResponse> findPage(String prefix, int limit);
+
+    /**
+     * Página seguinte à posição {@code (createdAt, id)}, na mesma ordem de {@link #findPage}.
+     */
+    List<UserResponse> findPageAfter(String prefix, LocalDateTime createdAt, Long id, int limit);
+
+    /**
+     * Percorre todos os usuários com um cursor de {@code fetchSize} linhas,
+     * expondo as colunas {@code id, name, email, created_at, updated_at}.
+     */
+    void forEachUser(int fetchSize, RowCallbackHandler handler);
+
+    /**
+     * Versão de segurança, por id, dos usuários gravados depois de {@code since}
+     * (pelo {@code updated_at}).
+     */
+    Map<Long, Integer> findSecurityVersionsUpdatedAfter(LocalDateTime since);
+}
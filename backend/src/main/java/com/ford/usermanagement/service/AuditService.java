@@ -0,0 +1,207 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.model.AuditEvent;
+import com.ford.usermanagement.model.AuditEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trilha de auditoria assíncrona. Os serviços publicam eventos numa fila
+ * limitada em memória e uma thread dedicada os grava em lote na tabela
+ * {@code audit_events}, então nenhuma operação espera por escrita de auditoria.
+ * Com a fila cheia o publicador espera no máximo
+ * {@code app.audit.offer-timeout} (zero por padrão) e depois descarta o
+ * evento, contabilizando-o em {@code audit.events{outcome=dropped}}.
+ */
+@Service
+public class AuditService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_events (event_type, user_id, email, details, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    /** Largura das colunas {@code email} e {@code details} de {@code audit_events}. */
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.audit.flush-interval:1s}")
+    private Duration flushInterval;
+
+    @Value("${app.audit.offer-timeout:0ms}")
+    private Duration offerTimeout;
+
+    private BlockingQueue<AuditEvent> queue;
+
+    private Thread writer;
+
+    private volatile boolean running;
+
+    private Counter writtenCounter;
+
+    private Counter droppedCounter;
+
+    private Counter failedCounter;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(meterRegistry);
+        writtenCounter = eventCounter("written");
+        droppedCounter = eventCounter("dropped");
+        failedCounter = eventCounter("failed");
+
+        if (enabled) {
+            running = true;
+            writer = new Thread(this::writeLoop, "audit-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    private Counter eventCounter(String outcome) {
+        return Counter.builder("audit.events")
+                .description("Eventos de auditoria por destino final")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Grava o que ainda estiver na fila antes de encerrar.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        writer.join(flushInterval.toMillis() * 5);
+
+        List<AuditEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(remaining.size(), from + batchSize)));
+        }
+    }
+
+    public void record(AuditEventType type, Long userId, String email) {
+        record(type, userId, email, null);
+    }
+
+    /**
+     * Publica um evento. Dentro de uma transação, eventos de sucesso só entram
+     * na fila após o commit, para não registrar operações desfeitas. Email e
+     * detalhes são cortados na largura da coluna: um valor longo demais faria
+     * o banco recusar o lote inteiro.
+     */
+    public void record(AuditEventType type, Long userId, String email, String details) {
+        if (!enabled) {
+            return;
+        }
+        AuditEvent event = new AuditEvent(type, userId, truncate(email), truncate(details), LocalDateTime.now());
+        if (type.isFailure() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(event);
+            }
+        });
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_COLUMN_LENGTH ? value.substring(0, MAX_COLUMN_LENGTH) : value;
+    }
+
+    private void enqueue(AuditEvent event) {
+        boolean accepted;
+        try {
+            accepted = offerTimeout.isZero()
+                    ? queue.offer(event)
+                    : queue.offer(event, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditEvent first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                // Encerramento: o restante da fila é gravado em shutdown()
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, event) -> {
+                statement.setString(1, event.getType().name());
+                statement.setObject(2, event.getUserId());
+                statement.setString(3, event.getEmail());
+                statement.setString(4, event.getDetails());
+                statement.setTimestamp(5, Timestamp.valueOf(event.getCreatedAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException ex) {
+            // Sem nova tentativa: reenfileirar poderia crescer sem limite com o banco fora do ar
+            failedCounter.increment(batch.size());
+            log.warn("Falha ao gravar {} eventos de auditoria: {}", batch.size(), ex.getMessage());
+        }
+    }
+}
@@ -3,12 +3,20 @@ package com.ford.usermanagement.service;
 import com.ford.usermanagement.dto.*;
 import com.ford.usermanagement.exception.EmailAlreadyExistsException;
 import com.ford.usermanagement.exception.InvalidPasswordException;
+import com.ford.usermanagement.exception.InvalidRefreshTokenException;
+import com.ford.usermanagement.exception.PreconditionFailedException;
+import com.ford.usermanagement.model.AuditEventType;
 import com.ford.usermanagement.model.User;
-import com.ford.usermanagement.repository.UserRepository;
+import com.ford.usermanagement.repository.UserStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,7 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserStore userStore;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -30,8 +38,26 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private UserLookupService userLookupService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public UserResponse register(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (userStore.existsByEmail(request.getEmail())) {
             throw new EmailAlreadyExistsException("Email já está em uso: " + request.getEmail());
         }
 
@@ -40,52 +66,134 @@ public class AuthService {
         user.setEmail(request.getEmail());
         user.setPassword(passwordEncoder.encode(request.getPassword()));
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userStore.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            // Cadastro concorrente com o mesmo email entre a verificação e o insert
+            throw new EmailAlreadyExistsException("Email já está em uso: " + request.getEmail());
+        }
+        auditService.record(AuditEventType.REGISTER, savedUser.getId(), savedUser.getEmail());
         return new UserResponse(savedUser);
     }
 
     public LoginResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+            );
+            outcome = "success";
+        } catch (AuthenticationException ex) {
+            auditService.record(AuditEventType.LOGIN_FAILURE, null, request.getEmail(), ex.getClass().getSimpleName());
+            throw ex;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.login.authenticate", "outcome", outcome));
+        }
 
         User user = (User) authentication.getPrincipal();
-        String token = jwtService.generateToken(user);
+        auditService.record(AuditEventType.LOGIN_SUCCESS, user.getId(), user.getEmail());
+        return issueTokens(user, refreshTokenService.issue(user.getId()));
+    }
+
+    /**
+     * Troca um refresh token válido por um novo par de tokens, sem verificar a
+     * senha novamente. O refresh token apresentado deixa de valer.
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        User user = userLookupService.findById(rotation.userId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("Usuário não encontrado"));
+        return issueTokens(user, rotation.refreshToken());
+    }
 
-        return new LoginResponse(token, new UserResponse(user));
+    /**
+     * Revoga a sessão: a família do refresh token informado e o access token
+     * do cabeçalho, se ainda for válido.
+     */
+    public void logout(String accessToken, RefreshTokenRequest request) {
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+        if (accessToken != null) {
+            try {
+                String tokenId = jwtService.extractTokenId(accessToken);
+                // Tokens emitidos antes do jti não entram na lista de revogação; expiram sozinhos
+                if (tokenId != null) {
+                    tokenRevocationService.revoke(tokenId, jwtService.extractExpiration(accessToken));
+                }
+                auditService.record(AuditEventType.LOGOUT, null, jwtService.extractUsername(accessToken));
+            } catch (JwtException | IllegalArgumentException ex) {
+                // Token inválido ou expirado: não há o que revogar
+            }
+        }
+    }
+
+    private LoginResponse issueTokens(User user, String refreshToken) {
+        String token = jwtService.generateToken(user);
+        return new LoginResponse(token, refreshToken, jwtService.getJwtExpiration() / 1000, new UserResponse(user));
     }
 
     public UserResponse updateProfile(String email, UpdateProfileRequest request) {
-        User user = userRepository.findByEmail(email)
+        return updateProfile(email, request, null);
+    }
+
+    /**
+     * Atualiza o perfil se o ETag atual satisfizer {@code ifMatch}; sem o
+     * cabeçalho, a atualização é incondicional.
+     */
+    public UserResponse updateProfile(String email, UpdateProfileRequest request, String ifMatch) {
+        User user = userStore.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
 
-        // Verificar se o novo email já está em uso por outro usuário
-        if (!user.getEmail().equals(request.getEmail()) && 
-            userRepository.existsByEmail(request.getEmail())) {
-            throw new EmailAlreadyExistsException("Email já está em uso: " + request.getEmail());
+        if (!ProfileETag.matches(ifMatch, ProfileETag.of(user.getId(), user.getVersion()))) {
+            throw new PreconditionFailedException("O perfil foi alterado por outra requisição. Recarregue e tente novamente.");
         }
 
+        String previousEmail = user.getEmail();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-
-        User updatedUser = userRepository.save(user);
+        user.setSecurityVersion(user.getSecurityVersion() + 1);
+
+        // O índice único de email garante a unicidade e o @Version detecta atualizações
+        // concorrentes; o flush faz ambos falharem aqui, antes de montar a resposta e o ETag
+        User updatedUser;
+        try {
+            updatedUser = userStore.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw new EmailAlreadyExistsException("Email já está em uso: " + request.getEmail());
+        }
+        userLookupService.evict(updatedUser, previousEmail);
+        securityVersionRegistry.record(updatedUser.getId(), updatedUser.getSecurityVersion());
+        auditService.record(AuditEventType.PROFILE_UPDATE, updatedUser.getId(), updatedUser.getEmail(),
+                previousEmail.equals(updatedUser.getEmail()) ? null : "email anterior: " + previousEmail);
         return new UserResponse(updatedUser);
     }
 
     public void changePassword(String email, ChangePasswordRequest request) {
-        User user = userRepository.findByEmail(email)
+        User user = userStore.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
 
         if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+            auditService.record(AuditEventType.PASSWORD_CHANGE_FAILURE, user.getId(), user.getEmail());
             throw new InvalidPasswordException("Senha atual incorreta");
         }
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        user.setSecurityVersion(user.getSecurityVersion() + 1);
+        userStore.save(user);
+        userLookupService.evict(user);
+        securityVersionRegistry.record(user.getId(), user.getSecurityVersion());
+        refreshTokenService.revokeAllForUser(user.getId());
+        auditService.record(AuditEventType.PASSWORD_CHANGE, user.getId(), user.getEmail());
     }
 
+    @Transactional(readOnly = true)
     public UserResponse getUserProfile(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = userLookupService.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
         
         return new UserResponse(user);
@@ -0,0 +1,59 @@
+package com.ford.usermanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link RateLimitStore} local. Cada bucket é um estado imutável atualizado por
+ * compare-and-set, então requisições concorrentes para a mesma chave nunca
+ * bloqueiam. Buckets sem acesso são descartados após
+ * {@code app.security.rate-limit.idle-timeout}, que deve ser no mínimo o maior
+ * período configurado: um bucket ocioso por mais tempo que o seu período já
+ * estaria cheio, então o descarte não altera o resultado.
+ */
+@Component
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    @Value("${app.security.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    @Value("${app.security.rate-limit.idle-timeout:15m}")
+    private Duration idleTimeout;
+
+    private Cache<String, AtomicReference<Bucket>> buckets;
+
+    @PostConstruct
+    void init() {
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Duration tryConsume(String key, int capacity, Duration period) {
+        long now = System.nanoTime();
+        double nanosPerToken = (double) period.toNanos() / capacity;
+        AtomicReference<Bucket> ref = buckets.get(key, k -> new AtomicReference<>(new Bucket(capacity, now)));
+
+        while (true) {
+            Bucket current = ref.get();
+            double elapsed = Math.max(0, now - current.updatedAt());
+            double tokens = Math.min(capacity, current.tokens() + elapsed / nanosPerToken);
+            if (tokens < 1) {
+                return Duration.ofNanos((long) Math.ceil((1 - tokens) * nanosPerToken));
+            }
+            if (ref.compareAndSet(current, new Bucket(tokens - 1, Math.max(now, current.updatedAt())))) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    private record Bucket(double tokens, long updatedAt) {}
+}
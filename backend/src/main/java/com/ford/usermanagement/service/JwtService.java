@@ -1,38 +1,115 @@
 package com.ford.usermanagement.service;
 
+import com.ford.usermanagement.model.Role;
+import com.ford.usermanagement.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_NAME = "name";
+    private static final String CLAIM_SECURITY_VERSION = "sv";
+    private static final String CLAIM_ROLE = "role";
+
+    @Autowired
+    private JwtSigningKeys signingKeys;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Value("${app.jwt.expiration}")
     private long jwtExpiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${app.jwt.cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+
+    /**
+     * Parser imutável e thread-safe, criado uma única vez. A chave de
+     * verificação é escolhida pelo {@code kid} do cabeçalho de cada token.
+     */
+    private JwtParser parser;
+
+    /**
+     * Cache de tokens já verificados, indexado pelo próprio token.
+     * Cada entrada expira junto com o token, então a assinatura é
+     * verificada uma única vez durante a vida útil do token.
+     */
+    private Cache<String, TokenVerification> verifiedTokens;
+
+    private Timer generateTimer;
+
+    private Timer verifyTimer;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = signingKeys.resolve(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("Chave de assinatura JWT desconhecida: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtTokens");
+        generateTimer = Timer.builder("auth.jwt.generate")
+                .description("Geração e assinatura de tokens JWT")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        verifyTimer = Timer.builder("auth.jwt.verify")
+                .description("Verificação completa de assinatura (falhas de cache)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     public String generateToken(UserDetails userDetails) {
-        return createToken(userDetails.getUsername());
+        JwtBuilder builder = Jwts.builder();
+        if (userDetails instanceof User user) {
+            builder.claim(CLAIM_USER_ID, user.getId())
+                    .claim(CLAIM_NAME, user.getName())
+                    .claim(CLAIM_SECURITY_VERSION, user.getSecurityVersion())
+                    .claim(CLAIM_ROLE, user.getRole().name());
+        }
+        return generateTimer.record(() -> createToken(builder, userDetails.getUsername()));
     }
 
-    private String createToken(String subject) {
-        return Jwts.builder()
+    private String createToken(JwtBuilder builder, String subject) {
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeys.getActiveKeyId())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKeys.getActiveKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -44,17 +121,92 @@ public class JwtService {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    /**
+     * Identificador único do token ({@code jti}), usado na lista de revogação.
+     */
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
+    public long getJwtExpiration() {
+        return jwtExpiration;
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        TokenVerification cached = cachedVerification(token);
+        return cached != null ? cached.getClaims() : verifyAndCache(token).getClaims();
+    }
+
+    /**
+     * Verifica o token sem lançar exceções: tokens já verificados saem do cache
+     * e cada falha é devolvida como um {@link TokenVerification} com o motivo.
+     */
+    public TokenVerification verifyToken(String token) {
+        TokenVerification cached = cachedVerification(token);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return verifyAndCache(token);
+        } catch (ExpiredJwtException ex) {
+            return TokenVerification.failure(TokenVerification.Status.EXPIRED);
+        } catch (UnsupportedJwtException ex) {
+            return TokenVerification.failure(TokenVerification.Status.UNSUPPORTED);
+        } catch (MalformedJwtException ex) {
+            return TokenVerification.failure(TokenVerification.Status.MALFORMED);
+        } catch (SignatureException ex) {
+            return TokenVerification.failure(TokenVerification.Status.INVALID_SIGNATURE);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return TokenVerification.failure(TokenVerification.Status.INVALID);
+        }
+    }
+
+    private TokenVerification cachedVerification(String token) {
+        TokenVerification cached = verifiedTokens.getIfPresent(token);
+        return cached != null && signingKeys.isActive(cached.getKeyId()) ? cached : null;
+    }
+
+    private TokenVerification verifyAndCache(String token) {
+        TokenVerification verification = TokenVerification.valid(verify(token));
+        verifiedTokens.put(token, verification);
+        return verification;
+    }
+
+    private Jws<Claims> verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return parser.parseClaimsJws(token);
+        } finally {
+            sample.stop(verifyTimer);
+        }
+    }
+
+    /**
+     * Reconstrói o principal a partir das claims do token, sem acessar o banco.
+     * Retorna {@code null} para tokens emitidos sem as claims de usuário.
+     */
+    public User extractPrincipal(String token) {
+        return extractPrincipal(extractAllClaims(token));
+    }
+
+    public User extractPrincipal(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        Number securityVersion = claims.get(CLAIM_SECURITY_VERSION, Number.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || securityVersion == null || role == null) {
+            return null;
+        }
+
+        User user = new User(claims.get(CLAIM_NAME, String.class), claims.getSubject(), null);
+        user.setId(userId.longValue());
+        user.setSecurityVersion(securityVersion.intValue());
+        user.setRole(Role.valueOf(role));
+        return user;
     }
 
     public Boolean isTokenExpired(String token) {
@@ -62,7 +214,36 @@ public class JwtService {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(extractAllClaims(token), userDetails);
+    }
+
+    public boolean validateToken(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername())
+                && claims.getExpiration().getTime() >= System.currentTimeMillis();
+    }
+
+    /**
+     * Remove a entrada no instante em que o token expira.
+     */
+    private class TokenExpiry implements Expiry<String, TokenVerification> {
+
+        @Override
+        public long expireAfterCreate(String token, TokenVerification verification, long currentTime) {
+            Date expiration = verification.getClaims().getExpiration();
+            long remainingMillis = expiration != null
+                    ? expiration.getTime() - System.currentTimeMillis()
+                    : jwtExpiration;
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, TokenVerification verification, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, TokenVerification verification, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
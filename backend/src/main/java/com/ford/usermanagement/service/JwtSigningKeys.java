@@ -0,0 +1,126 @@
+package com.ford.usermanagement.service;
+
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.Key;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Conjunto de chaves HMAC usadas para assinar e verificar tokens JWT.
+ * As chaves são derivadas uma única vez, na inicialização ou na rotação.
+ * A primeira chave do conjunto é a ativa (usada para assinar); as demais
+ * continuam válidas para verificação até saírem da janela de retenção.
+ */
+@Component
+public class JwtSigningKeys {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtSigningKeys.class);
+
+    @Value("${app.jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${app.jwt.key-id:default}")
+    private String jwtKeyId;
+
+    @Value("${app.jwt.max-active-keys:3}")
+    private int maxActiveKeys;
+
+    @Value("${app.jwt.rotation-file:}")
+    private String rotationFile;
+
+    private final AtomicReference<Map<String, Key>> keys = new AtomicReference<>(Collections.emptyMap());
+
+    @PostConstruct
+    void init() {
+        rotate(jwtKeyId, jwtSecret);
+        refreshFromFile();
+    }
+
+    public String getActiveKeyId() {
+        return keys.get().keySet().iterator().next();
+    }
+
+    public Key getActiveKey() {
+        return keys.get().values().iterator().next();
+    }
+
+    /**
+     * Retorna a chave associada ao {@code kid}, ou {@code null} se ela não estiver mais ativa.
+     * Tokens sem {@code kid} (emitidos antes da rotação existir) usam a chave configurada.
+     */
+    public Key resolve(String keyId) {
+        return keys.get().get(keyId != null ? keyId : jwtKeyId);
+    }
+
+    public boolean isActive(String keyId) {
+        return resolve(keyId) != null;
+    }
+
+    /**
+     * Torna {@code keyId} a chave de assinatura ativa, mantendo as anteriores
+     * para verificação até o limite de {@code app.jwt.max-active-keys}.
+     */
+    public void rotate(String keyId, String secret) {
+        Key key = Keys.hmacShaKeyFor(secret.getBytes());
+        keys.getAndUpdate(current -> {
+            Map<String, Key> next = new LinkedHashMap<>();
+            next.put(keyId, key);
+            for (Map.Entry<String, Key> entry : current.entrySet()) {
+                if (next.size() >= maxActiveKeys) {
+                    break;
+                }
+                next.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            return Collections.unmodifiableMap(next);
+        });
+        log.info("Chave JWT ativa: {}", keyId);
+    }
+
+    /**
+     * Relê o arquivo de rotação (propriedades {@code key-id} e {@code secret}),
+     * permitindo trocar a chave ativa sem reiniciar a aplicação.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.rotation-check-interval:30000}")
+    public void refreshFromFile() {
+        if (!StringUtils.hasText(rotationFile)) {
+            return;
+        }
+
+        Path path = Paths.get(rotationFile);
+        if (!Files.isReadable(path)) {
+            log.warn("Arquivo de rotação JWT não encontrado: {}", rotationFile);
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException ex) {
+            log.warn("Falha ao ler arquivo de rotação JWT: {}", ex.getMessage());
+            return;
+        }
+
+        String keyId = properties.getProperty("key-id");
+        String secret = properties.getProperty("secret");
+        if (StringUtils.hasText(keyId) && StringUtils.hasText(secret) && !keyId.equals(getActiveKeyId())) {
+            rotate(keyId, secret);
+        }
+    }
+}
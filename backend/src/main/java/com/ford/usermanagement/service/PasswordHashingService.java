@@ -0,0 +1,192 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.exception.PasswordHashingUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link PasswordEncoder} que executa o BCrypt em um pool dedicado e limitado,
+ * dimensionado pelo número de núcleos. Quando o pool e a fila estão cheios a
+ * operação falha imediatamente, em vez de ocupar todas as threads do Tomcat
+ * com hashing e deixar endpoints baratos sem atendimento.
+ */
+@Service
+public class PasswordHashingService implements PasswordEncoder {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.security.bcrypt.strength:10}")
+    private int strength;
+
+    @Value("${app.security.hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.security.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.security.hashing.timeout:5000}")
+    private long timeoutMillis;
+
+    private BCryptPasswordEncoder delegate;
+
+    private ThreadPoolExecutor executor;
+
+    private Timer hashTimer;
+
+    private Timer verifyTimer;
+
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        delegate = new BCryptPasswordEncoder(strength);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "passwordHashing", Collections.emptyList()).bindTo(meterRegistry);
+        hashTimer = Timer.builder("auth.password.hash")
+                .description("Geração de hash BCrypt")
+                .tag("strength", String.valueOf(strength))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        verifyTimer = Timer.builder("auth.password.verify")
+                .description("Verificação de senha BCrypt")
+                .tag("strength", String.valueOf(strength))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("Operações recusadas por saturação do pool de hashing")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> hashTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> verifyTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Gera os hashes de um lote em paralelo no mesmo pool. No máximo uma tarefa
+     * por thread do pool fica pendente por vez, para que a fila continue livre
+     * para logins interativos; se o pool recusar a tarefa mesmo assim, o hash
+     * é calculado na thread chamadora.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        Semaphore inFlight = new Semaphore(executor.getMaximumPoolSize());
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                inFlight.acquire();
+                Callable<String> task = () -> {
+                    try {
+                        return hashTimer.record(() -> delegate.encode(rawPassword));
+                    } finally {
+                        inFlight.release();
+                    }
+                };
+                try {
+                    futures.add(executor.submit(task));
+                } catch (RejectedExecutionException ex) {
+                    FutureTask<String> inline = new FutureTask<>(task);
+                    inline.run();
+                    futures.add(inline);
+                }
+            }
+
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Processamento de senha interrompido");
+        } catch (ExecutionException ex) {
+            throw propagate(ex);
+        }
+    }
+
+    /**
+     * Indica se o hash armazenado usa um custo menor que o configurado. O
+     * {@code DaoAuthenticationProvider} usa isso para regravar a senha no login.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            throw new PasswordHashingUnavailableException("Capacidade de processamento de senhas esgotada");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingUnavailableException("Tempo esgotado aguardando processamento de senha");
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Processamento de senha interrompido");
+        } catch (ExecutionException ex) {
+            throw propagate(ex);
+        }
+    }
+
+    private RuntimeException propagate(ExecutionException ex) {
+        if (ex.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(ex.getCause());
+    }
+}
@@ -0,0 +1,31 @@
+package com.ford.usermanagement.service;
+
+/**
+ * ETag do perfil, derivado do id e da versão ({@code @Version}) do usuário,
+ * que muda a cada atualização gravada.
+ */
+public final class ProfileETag {
+
+    private ProfileETag() {}
+
+    public static String of(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Avalia um cabeçalho {@code If-Match}: ausente ou {@code *} sempre
+     * satisfaz; caso contrário, algum dos valores listados deve ser igual ao
+     * ETag atual (comparação forte, então valores fracos não satisfazem).
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return true;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            if (candidate.trim().equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ford.usermanagement.service;
+
+import java.time.Duration;
+
+/**
+ * Armazenamento de buckets de fichas para limitação de requisições. A
+ * implementação padrão é local ({@link InMemoryRateLimitStore}); com várias
+ * instâncias atrás de um balanceador, uma implementação compartilhada
+ * (Redis, por exemplo) pode substituí-la registrando outro bean deste tipo
+ * como {@code @Primary}.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Tenta consumir uma ficha do bucket identificado por {@code key}. O bucket
+     * comporta até {@code capacity} fichas e é reabastecido continuamente à
+     * razão de {@code capacity} fichas por {@code period}.
+     *
+     * @return zero se a ficha foi consumida; caso contrário, o tempo até a
+     *         próxima ficha ficar disponível
+     */
+    Duration tryConsume(String key, int capacity, Duration period);
+}
@@ -0,0 +1,102 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.exception.InvalidRefreshTokenException;
+import com.ford.usermanagement.model.RefreshToken;
+import com.ford.usermanagement.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Emissão e rotação de refresh tokens. O valor entregue ao cliente é aleatório
+ * (256 bits) e só o seu SHA-256 é gravado; como o valor já tem entropia
+ * suficiente, um hash rápido basta e a renovação não passa pelo BCrypt.
+ * Cada uso revoga o token e emite outro na mesma família; reapresentar um
+ * token já revogado indica vazamento e revoga a família inteira.
+ */
+@Service
+@Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${app.jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
+    public record Rotation(Long userId, String refreshToken) {}
+
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token inválido"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (token.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(token.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            throw new InvalidRefreshTokenException("Refresh token já utilizado");
+        }
+        if (token.isExpired()) {
+            throw new InvalidRefreshTokenException("Refresh token expirado");
+        }
+
+        return new Rotation(token.getUserId(), issue(token.getUserId(), token.getFamilyId()));
+    }
+
+    /**
+     * Revoga a família do token informado (logout). Tokens desconhecidos são ignorados.
+     */
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    public void revokeAllForUser(Long userId) {
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-cleanup-interval:3600000}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] value = new byte[32];
+        RANDOM.nextBytes(value);
+        String rawToken = ENCODER.encodeToString(value);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000);
+        refreshTokenRepository.save(new RefreshToken(userId, hash(rawToken), familyId, expiresAt));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.repository.UserStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Guarda a versão de segurança mais recente dos usuários alterados. Um token
+ * cujo carimbo {@code sv} seja anterior ao registrado aqui foi emitido antes de
+ * uma troca de senha ou de perfil e não pode ser usado como fonte autoritativa
+ * do principal. As entradas só precisam viver enquanto um token emitido antes
+ * da alteração ainda puder ser válido.
+ * <p>
+ * A coluna {@code users.security_version} é a fonte de verdade, como a tabela
+ * {@code revoked_tokens} para o {@link TokenRevocationService}: na subida cada
+ * instância carrega os usuários gravados dentro da validade de um token e
+ * depois busca os novos periodicamente, então uma troca de senha feita em outra
+ * instância passa a valer aqui em até {@code app.jwt.security-version-sync-interval}.
+ * Só roda com {@code app.jwt.claims-authoritative=true}; sem ele o principal
+ * sempre vem do banco e o registro não é consultado.
+ */
+@Component
+public class SecurityVersionRegistry implements SmartLifecycle {
+
+    /** Margem para gravações feitas com relógio levemente adiantado em outra instância. */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    @Autowired
+    private UserStore userStore;
+
+    @Value("${app.jwt.expiration}")
+    private long jwtExpiration;
+
+    @Value("${app.jwt.claims-authoritative:false}")
+    private boolean claimsAuthoritative;
+
+    private Cache<Long, Integer> versions;
+
+    private volatile LocalDateTime lastSync;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        versions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(jwtExpiration))
+                .build();
+    }
+
+    /**
+     * Carrega as versões na fase de start do contexto, antes do servidor web
+     * aceitar requisições, pelo mesmo motivo do {@link TokenRevocationService}.
+     */
+    @Override
+    public void start() {
+        if (claimsAuthoritative) {
+            LocalDateTime now = LocalDateTime.now();
+            userStore.findSecurityVersionsUpdatedAfter(now.minus(Duration.ofMillis(jwtExpiration)))
+                    .forEach(this::record);
+            lastSync = now;
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    public void record(Long userId, int securityVersion) {
+        versions.asMap().merge(userId, securityVersion, Math::max);
+    }
+
+    public boolean isStale(Long userId, int securityVersion) {
+        Integer current = versions.getIfPresent(userId);
+        return current != null && current > securityVersion;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.security-version-sync-interval:10000}")
+    public void sync() {
+        if (!claimsAuthoritative || lastSync == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        userStore.findSecurityVersionsUpdatedAfter(lastSync.minus(SYNC_OVERLAP)).forEach(this::record);
+        lastSync = now;
+    }
+}
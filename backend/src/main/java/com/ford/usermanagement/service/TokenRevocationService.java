@@ -0,0 +1,98 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.model.RevokedToken;
+import com.ford.usermanagement.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de negação de access tokens revogados, consultada em memória a cada
+ * requisição. A tabela {@code revoked_tokens} é a fonte de verdade: cada
+ * instância carrega as revogações ainda válidas na inicialização e busca as
+ * novas periodicamente, então um logout feito em outra instância passa a valer
+ * aqui em até {@code app.jwt.revocation-sync-interval}. Como os access tokens
+ * são curtos, a lista contém apenas as revogações dos últimos minutos.
+ */
+@Service
+public class TokenRevocationService implements SmartLifecycle {
+
+    /** Margem para revogações gravadas com relógio levemente adiantado em outra instância. */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private final Map<String, LocalDateTime> denylist = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSync;
+
+    private volatile boolean running;
+
+    /**
+     * Carrega as revogações na fase de start do contexto, antes do servidor web
+     * aceitar requisições (fase menor que a do Tomcat). Fora da criação do bean,
+     * o contexto pode ser montado sem banco, como no treino do arquivo CDS.
+     */
+    @Override
+    public void start() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::remember);
+        lastSync = now;
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Transactional
+    public void revoke(String jti, Date expiresAt) {
+        LocalDateTime expiration = LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault());
+        RevokedToken revoked = new RevokedToken(jti, expiration, LocalDateTime.now());
+        revokedTokenRepository.save(revoked);
+        remember(revoked);
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && denylist.containsKey(jti);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-sync-interval:10000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findByRevokedAtAfter(lastSync.minus(SYNC_OVERLAP)).forEach(this::remember);
+        denylist.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        lastSync = now;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-cleanup-interval:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        revokedTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private void remember(RevokedToken revoked) {
+        denylist.put(revoked.getJti(), revoked.getExpiresAt());
+    }
+}
@@ -0,0 +1,77 @@
+package com.ford.usermanagement.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resultado da verificação de um access token, devolvido no lugar das exceções
+ * do jjwt. O resultado de um token válido fica no cache do {@link JwtService} e
+ * cada motivo de falha tem uma única instância, então consultar o resultado não
+ * aloca objetos.
+ */
+public final class TokenVerification {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        UNSUPPORTED,
+        MALFORMED,
+        INVALID_SIGNATURE,
+        INVALID
+    }
+
+    private static final Map<Status, TokenVerification> FAILURES = new EnumMap<>(Status.class);
+
+    static {
+        for (Status status : Status.values()) {
+            if (status != Status.VALID) {
+                FAILURES.put(status, new TokenVerification(status, null, null));
+            }
+        }
+    }
+
+    private final Status status;
+
+    private final Claims claims;
+
+    private final String keyId;
+
+    private TokenVerification(Status status, Claims claims, String keyId) {
+        this.status = status;
+        this.claims = claims;
+        this.keyId = keyId;
+    }
+
+    static TokenVerification valid(Jws<Claims> jws) {
+        return new TokenVerification(Status.VALID, jws.getBody(), jws.getHeader().getKeyId());
+    }
+
+    public static TokenVerification failure(Status status) {
+        if (status == Status.VALID) {
+            throw new IllegalArgumentException("Status de falha esperado");
+        }
+        return FAILURES.get(status);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Claims do token; {@code null} quando a verificação falhou.
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+
+    String getKeyId() {
+        return keyId;
+    }
+}
@@ -1,24 +1,61 @@
 package com.ford.usermanagement.service;
 
 import com.ford.usermanagement.model.User;
-import com.ford.usermanagement.repository.UserRepository;
+import com.ford.usermanagement.repository.UserStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserLookupService userLookupService;
+
+    @Autowired
+    private UserStore userStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer lookupTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        lookupTimer = Timer.builder("auth.user.lookup")
+                .description("Carregamento do usuário autenticado (cache ou banco)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        User user = lookupTimer.record(() -> userLookupService.findByEmail(email))
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com email: " + email));
         
         return user;
     }
+
+    /**
+     * Regrava o hash quando o armazenado usa um custo de BCrypt desatualizado.
+     * Chamado pelo {@code DaoAuthenticationProvider} após um login bem-sucedido.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userStore.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com email: " + userDetails.getUsername()));
+
+        user.setPassword(newPassword);
+        User updatedUser = userStore.save(user);
+        userLookupService.evict(updatedUser);
+        return updatedUser;
+    }
 }
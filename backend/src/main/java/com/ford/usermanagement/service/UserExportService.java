@@ -0,0 +1,126 @@
+package com.ford.usermanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ford.usermanagement.dto.UserFileFormat;
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.repository.UserStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Exportação da tabela de usuários linha a linha. A consulta roda com um cursor
+ * JDBC somente-leitura (no MySQL, em streaming pelo driver; nos demais bancos, com
+ * fetch size fixo), e cada linha é escrita no stream assim que lida, sem passar pelo
+ * contexto de persistência. O consumo de memória independe do tamanho da tabela;
+ * com shards, eles são percorridos um após o outro ({@link UserStore#forEachUser}).
+ */
+@Service
+public class UserExportService {
+
+    private static final String CSV_HEADER = "id,name,email,created_at,updated_at";
+
+    @Autowired
+    private UserStore userStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public void export(OutputStream output, UserFileFormat format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        try {
+            if (format == UserFileFormat.CSV) {
+                writeCsv(writer);
+            } else {
+                writeNdjson(writer);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        query(rs -> {
+            writer.write(Long.toString(rs.getLong("id")));
+            writer.write(',');
+            writer.write(csv(rs.getString("name")));
+            writer.write(',');
+            writer.write(csv(rs.getString("email")));
+            writer.write(',');
+            writer.write(csv(rs.getTimestamp("created_at")));
+            writer.write(',');
+            writer.write(csv(rs.getTimestamp("updated_at")));
+            writer.write('\n');
+        });
+    }
+
+    private void writeNdjson(Writer writer) throws IOException {
+        SequenceWriter sequence = objectMapper.writerFor(UserResponse.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .writeValues(writer);
+        query(rs -> sequence.write(new UserResponse(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("email"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")))));
+        sequence.flush();
+        writer.write('\n');
+    }
+
+    private void query(RowWriter rowWriter) {
+        userStore.forEachUser(fetchSize, rs -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static String csv(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : "";
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,280 @@
+package com.ford.usermanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.dto.RegisterRequest;
+import com.ford.usermanagement.dto.UserFileFormat;
+import com.ford.usermanagement.dto.UserImportReport;
+import com.ford.usermanagement.dto.UserImportResult;
+import com.ford.usermanagement.exception.InvalidImportFileException;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.repository.UserStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa de usuários a partir de CSV (cabeçalho com as colunas
+ * {@code name}, {@code email} e {@code password}) ou NDJSON. A entrada é lida
+ * em lotes de {@code app.import.batch-size} linhas; cada lote faz uma única
+ * consulta de emails já cadastrados, gera os hashes em paralelo no pool de
+ * hashing e grava as linhas com {@link UserStore#insertAll}, em batch e em
+ * transação própria por lote.
+ */
+@Service
+public class UserImportService {
+
+    @Autowired
+    private UserStore userStore;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    public UserImportReport importUsers(InputStream input, UserFileFormat format) throws IOException {
+        UserImportReport report = new UserImportReport();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            CsvColumns columns = null;
+            if (format == UserFileFormat.CSV) {
+                columns = CsvColumns.fromHeader(reader.readLine());
+                lineNumber++;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(format == UserFileFormat.CSV ? columns.parse(line, lineNumber) : parseJson(line, lineNumber));
+                if (batch.size() >= batchSize) {
+                    importBatch(batch, seenEmails, report);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            importBatch(batch, seenEmails, report);
+        }
+        return report;
+    }
+
+    private ImportRow parseJson(String line, long lineNumber) {
+        try {
+            RegisterRequest request = objectMapper.readValue(line, RegisterRequest.class);
+            return request != null ? new ImportRow(lineNumber, request) : ImportRow.malformed(lineNumber);
+        } catch (JsonProcessingException ex) {
+            return ImportRow.malformed(lineNumber);
+        }
+    }
+
+    private void importBatch(List<ImportRow> rows, Set<String> seenEmails, UserImportReport report) {
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.result != null) {
+                continue;
+            }
+            String violations = validate(row.request);
+            if (violations != null) {
+                row.reject(UserImportResult.Status.INVALID, violations);
+            } else if (!seenEmails.add(normalize(row.request.getEmail()))) {
+                row.reject(UserImportResult.Status.DUPLICATE, "Email repetido no arquivo");
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        List<ImportRow> toInsert = new ArrayList<>(candidates.size());
+        if (!candidates.isEmpty()) {
+            Set<String> existing = userStore.findExistingEmails(
+                    candidates.stream().map(row -> row.request.getEmail()).toList())
+                    .stream()
+                    .map(this::normalize)
+                    .collect(Collectors.toSet());
+            for (ImportRow row : candidates) {
+                if (existing.contains(normalize(row.request.getEmail()))) {
+                    row.reject(UserImportResult.Status.DUPLICATE, "Email já cadastrado");
+                } else {
+                    toInsert.add(row);
+                }
+            }
+        }
+
+        if (!toInsert.isEmpty()) {
+            List<String> hashes = passwordHashingService.encodeAll(
+                    toInsert.stream().map(row -> row.request.getPassword()).toList());
+            for (int i = 0; i < toInsert.size(); i++) {
+                toInsert.get(i).passwordHash = hashes.get(i);
+            }
+            insert(toInsert);
+        }
+
+        for (ImportRow row : rows) {
+            report.add(row.result);
+            meterRegistry.counter("users.import.rows",
+                    "status", row.result.getStatus().name().toLowerCase(Locale.ROOT)).increment();
+        }
+    }
+
+    /**
+     * Se outro processo cadastrar um dos emails entre a consulta e o insert, a
+     * linha sai como duplicada e as demais do lote são gravadas.
+     */
+    private void insert(List<ImportRow> rows) {
+        List<User> users = rows.stream()
+                .map(row -> new User(row.request.getName(), row.request.getEmail(), row.passwordHash))
+                .toList();
+        Set<String> duplicates = userStore.insertAll(users);
+        for (ImportRow row : rows) {
+            if (duplicates.contains(row.request.getEmail())) {
+                row.reject(UserImportResult.Status.DUPLICATE, "Email já cadastrado");
+            } else {
+                row.accept();
+            }
+        }
+    }
+
+    private String validate(RegisterRequest request) {
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class ImportRow {
+
+        private final long line;
+        private final RegisterRequest request;
+        private String passwordHash;
+        private UserImportResult result;
+
+        private ImportRow(long line, RegisterRequest request) {
+            this.line = line;
+            this.request = request;
+        }
+
+        private static ImportRow malformed(long line) {
+            ImportRow row = new ImportRow(line, null);
+            row.result = new UserImportResult(line, null, UserImportResult.Status.INVALID, "Linha mal formatada");
+            return row;
+        }
+
+        private void accept() {
+            result = new UserImportResult(line, request.getEmail(), UserImportResult.Status.CREATED, null);
+        }
+
+        private void reject(UserImportResult.Status status, String message) {
+            result = new UserImportResult(line, request.getEmail(), status, message);
+        }
+    }
+
+    /**
+     * Posição das colunas conforme o cabeçalho. Campos podem vir entre aspas
+     * duplas (com {@code ""} para aspas literais), mas não podem conter quebras
+     * de linha, já que a leitura é feita linha a linha.
+     */
+    private record CsvColumns(int name, int email, int password) {
+
+        static CsvColumns fromHeader(String header) {
+            if (header == null) {
+                throw new InvalidImportFileException("Arquivo CSV vazio");
+            }
+            List<String> fields = split(header);
+            if (fields == null) {
+                throw new InvalidImportFileException("Cabeçalho CSV mal formatado");
+            }
+            List<String> columns = fields.stream()
+                    .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            int name = columns.indexOf("name");
+            int email = columns.indexOf("email");
+            int password = columns.indexOf("password");
+            if (name < 0 || email < 0 || password < 0) {
+                throw new InvalidImportFileException("O cabeçalho CSV deve conter as colunas name, email e password");
+            }
+            return new CsvColumns(name, email, password);
+        }
+
+        ImportRow parse(String line, long lineNumber) {
+            List<String> fields = split(line);
+            if (fields == null || fields.size() <= Math.max(name, Math.max(email, password))) {
+                return ImportRow.malformed(lineNumber);
+            }
+            return new ImportRow(lineNumber,
+                    new RegisterRequest(fields.get(name).trim(), fields.get(email).trim(), fields.get(password)));
+        }
+
+        /**
+         * Retorna {@code null} quando há aspas sem fechamento.
+         */
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.repository.UserStore;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Consultas de usuário por email e por id com cache na frente do {@link UserStore}.
+ * As instâncias em cache são compartilhadas entre requisições e não devem ser alteradas;
+ * fluxos de escrita carregam a entidade do repositório e chamam {@link #evict}.
+ * Leituras feitas em transação somente leitura podem vir da réplica, com atraso
+ * de replicação, e por isso não entram no cache.
+ */
+@Service
+public class UserLookupService {
+
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+    public static final String USERS_BY_ID = "usersById";
+
+    @Autowired
+    private UserStore userStore;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${app.datasource.replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    private Cache usersByEmail;
+
+    private Cache usersById;
+
+    @PostConstruct
+    void init() {
+        usersByEmail = cacheManager.getCache(USERS_BY_EMAIL);
+        usersById = cacheManager.getCache(USERS_BY_ID);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        User cached = usersByEmail.get(email, User.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<User> user = userStore.findByEmail(email);
+        user.ifPresent(this::putIfFromPrimary);
+        return user;
+    }
+
+    public Optional<User> findById(Long id) {
+        User cached = usersById.get(id, User.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<User> user = userStore.findById(id);
+        user.ifPresent(this::putIfFromPrimary);
+        return user;
+    }
+
+    /**
+     * Remove o usuário do cache imediatamente e novamente após o commit da transação
+     * corrente, para que uma leitura concorrente não recoloque o estado antigo.
+     */
+    public void evict(User user, String... previousEmails) {
+        evictNow(user, previousEmails);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(user, previousEmails);
+                }
+            });
+        }
+    }
+
+    private void evictNow(User user, String... previousEmails) {
+        if (user.getId() != null) {
+            usersById.evict(user.getId());
+        }
+        usersByEmail.evict(user.getEmail());
+        for (String email : previousEmails) {
+            usersByEmail.evict(email);
+        }
+    }
+
+    private void putIfFromPrimary(User user) {
+        if (replicaEnabled && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        usersByEmail.put(user.getEmail(), user);
+        usersById.put(user.getId(), user);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.dto.UserPageResponse;
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.exception.InvalidCursorException;
+import com.ford.usermanagement.repository.UserStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Listagem de usuários com paginação por keyset em {@code (created_at, id)},
+ * do mais recente para o mais antigo. Cada página continua a partir da última
+ * linha da anterior usando o índice {@code idx_users_created_at_id}, então o
+ * custo não cresce com a profundidade da página como acontece com OFFSET. As
+ * consultas projetam direto em {@link UserResponse} e nunca carregam o hash de senha.
+ * <p>
+ * A latência constante vale só para a listagem sem filtro. Com {@code q}, o
+ * {@code name LIKE ? OR email LIKE ?} não cabe num único índice junto com a
+ * ordenação: o banco percorre {@code idx_users_created_at_id} filtrando (caro
+ * para prefixos raros) ou lê as linhas do prefixo por {@code idx_users_name} e
+ * pelo índice único de email e as ordena (caro para prefixos comuns). Mesmo
+ * separando as duas buscas, a faixa de um prefixo não sai ordenada por data,
+ * então o custo acompanha o número de usuários que casam com o prefixo.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserSearchService {
+
+    private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+
+    @Autowired
+    private UserStore userStore;
+
+    @Value("${app.users.page.max-size:100}")
+    private int maxPageSize;
+
+    /**
+     * @param query  prefixo de nome ou email; {@code null} ou vazio lista todos
+     * @param cursor valor de {@code nextCursor} da página anterior, ou {@code null} para a primeira
+     */
+    public UserPageResponse search(String query, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        String prefix = query == null || query.isBlank() ? null : escapeLike(query.trim()) + "%";
+        int limit = pageSize + 1;
+
+        List<UserResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userStore.findPage(prefix, limit);
+        } else {
+            Cursor position = decode(cursor);
+            rows = userStore.findPageAfter(prefix, position.createdAt(), position.id(), limit);
+        }
+
+        if (rows.size() <= pageSize) {
+            return new UserPageResponse(rows, null);
+        }
+        List<UserResponse> page = rows.subList(0, pageSize);
+        return new UserPageResponse(page, encode(page.get(pageSize - 1)));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String encode(UserResponse last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return CURSOR_ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(String cursor) {
+        try {
+            String raw = new String(CURSOR_DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Cursor de paginação inválido");
+        }
+    }
+
+    private record Cursor(LocalDateTime createdAt, long id) {}
+}
@@ -0,0 +1,38 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Consultas ao catálogo para migrações que precisam ser idempotentes: o MySQL
+ * não tem {@code ADD COLUMN IF NOT EXISTS} nem {@code CREATE/DROP INDEX IF EXISTS},
+ * e bancos mantidos pelo antigo {@code ddl-auto=update} podem já ter parte do esquema.
+ */
+final class SchemaMetadata {
+
+    private SchemaMetadata() {}
+
+    static boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        try (ResultSet columns = connection.getMetaData().getColumns(connection.getCatalog(), null, table, null)) {
+            while (columns.next()) {
+                if (column.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean hasIndex(Connection connection, String table, String index) throws SQLException {
+        try (ResultSet indexes = connection.getMetaData()
+                .getIndexInfo(connection.getCatalog(), null, table, false, false)) {
+            while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Colunas de versão em {@code users}: {@code security_version} invalida os
+ * tokens emitidos antes de uma troca de senha e {@code version} é o controle
+ * otimista (e o ETag do perfil). Usuários existentes começam em 0. Em Java
+ * porque bancos mantidos pelo {@code ddl-auto=update} podem já ter as colunas.
+ */
+public class V2__Add_user_version_columns extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            if (!SchemaMetadata.hasColumn(connection, "users", "security_version")) {
+                statement.execute("ALTER TABLE users ADD COLUMN security_version INT DEFAULT 0 NOT NULL");
+            }
+            if (!SchemaMetadata.hasColumn(connection, "users", "version")) {
+                statement.execute("ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL");
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Índices de consulta. Cada um só é criado se ainda não existir, já que
+ * bancos mantidos pelo {@code ddl-auto=update} podem tê-los recebido das
+ * anotações {@code @Index} das entidades.
+ */
+public class V4__Add_query_indexes extends BaseJavaMigration {
+
+    private static final String[][] INDEXES = {
+            // Listagem keyset (ORDER BY created_at DESC, id DESC) e busca por prefixo de
+            // nome; a busca por email usa o índice único
+            {"users", "idx_users_created_at_id", "created_at, id"},
+            {"users", "idx_users_name", "name"},
+            {"refresh_tokens", "idx_refresh_tokens_user_id", "user_id"},
+            {"refresh_tokens", "idx_refresh_tokens_family_id", "family_id"},
+            {"refresh_tokens", "idx_refresh_tokens_expires_at", "expires_at"},
+            {"revoked_tokens", "idx_revoked_tokens_revoked_at", "revoked_at"},
+            {"revoked_tokens", "idx_revoked_tokens_expires_at", "expires_at"},
+            {"audit_events", "idx_audit_events_user_id_created_at", "user_id, created_at"},
+            {"audit_events", "idx_audit_events_created_at", "created_at"}
+    };
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            for (String[] index : INDEXES) {
+                if (!SchemaMetadata.hasIndex(connection, index[0], index[1])) {
+                    statement.execute("CREATE INDEX " + index[1] + " ON " + index[0] + " (" + index[2] + ")");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Remove o {@code idx_email} criado pelo antigo {@code docker/mysql/init.sql}:
+ * o email já tem índice único, e o índice extra só custava escrita. Em Java
+ * porque o MySQL não tem {@code DROP INDEX IF EXISTS} e bancos criados pela
+ * V1 não possuem o índice.
+ */
+public class V5__Drop_redundant_email_index extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (SchemaMetadata.hasIndex(connection, "users", "idx_email")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP INDEX idx_email ON users");
+            }
+        }
+    }
+}
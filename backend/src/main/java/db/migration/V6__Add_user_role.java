@@ -0,0 +1,27 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Papel do usuário ({@code USER} ou {@code ADMIN}). O administrador criado
+ * pelo {@code DataInitializer} (e pelo antigo {@code init.sql}) passa a ADMIN;
+ * os demais continuam USER.
+ */
+public class V6__Add_user_role extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (SchemaMetadata.hasColumn(connection, "users", "role")) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE users ADD COLUMN role VARCHAR(20) DEFAULT 'USER' NOT NULL");
+            statement.execute("UPDATE users SET role = 'ADMIN' WHERE email = 'admin@ford.com'");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Índice dos usuários gravados recentemente: cada instância busca por ele as
+ * versões de segurança alteradas nas outras (SecurityVersionRegistry). Como na
+ * V4, só é criado se o {@code ddl-auto=update} ainda não o criou.
+ */
+public class V8__Add_users_updated_at_index extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!SchemaMetadata.hasIndex(connection, "users", "idx_users_updated_at")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX idx_users_updated_at ON users (updated_at)");
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- Esquema original, anterior às migrações: o mesmo do antigo docker/mysql/init.sql
+-- e do gerado pelo Hibernate (ddl-auto=update). Bancos existentes são marcados
+-- nesta versão (baseline-on-migrate) sem reexecutá-la e recebem as seguintes.
+
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
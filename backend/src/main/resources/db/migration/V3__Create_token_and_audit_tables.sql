@@ -0,0 +1,31 @@
+-- Tabelas de tokens e auditoria. IF NOT EXISTS porque bancos mantidos pelo
+-- ddl-auto=update podem já tê-las; os índices vêm na V4, que confere cada um.
+
+-- Refresh tokens: apenas o hash SHA-256 é armazenado
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    revoked_at DATETIME(6),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+-- Access tokens revogados antes de expirar (logout)
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    expires_at DATETIME(6) NOT NULL,
+    revoked_at DATETIME(6) NOT NULL
+);
+
+-- Trilha de auditoria: somente inserção, gravada em lote
+CREATE TABLE IF NOT EXISTS audit_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(40) NOT NULL,
+    user_id BIGINT,
+    email VARCHAR(255),
+    details VARCHAR(255),
+    created_at DATETIME(6) NOT NULL
+);
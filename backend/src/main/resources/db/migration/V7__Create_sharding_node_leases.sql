@@ -0,0 +1,7 @@
+-- Ids de instância (app.sharding.node-id) em uso: cada instância renova a
+-- própria linha, e uma segunda instância com o mesmo id não sobe
+CREATE TABLE IF NOT EXISTS sharding_node_leases (
+    node_id INT PRIMARY KEY,
+    instance_id VARCHAR(64) NOT NULL,
+    renewed_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,119 @@
+package com.ford.usermanagement;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.dto.LoginRequest;
+import com.ford.usermanagement.dto.RefreshTokenRequest;
+import com.ford.usermanagement.dto.RegisterRequest;
+import com.ford.usermanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fluxo completo por HTTP, sem mocks, para rodar também compilado como imagem
+ * nativa: {@code ./mvnw -PnativeTest test}. Cobre o que depende das dicas de
+ * reflexão e recursos (DTOs, jjwt, Flyway, springdoc).
+ */
+@Tag("native")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.security.rate-limit.enabled=false")
+@ActiveProfiles("test")
+public class NativeSmokeTest {
+
+    private static final String EMAIL = "native.smoke@ford.com";
+    private static final String PASSWORD = "Password@123";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    public void testRegisterLoginRefreshAndLogout() throws Exception {
+        assertEquals(201, send("POST", "/api/auth/register", null,
+                new RegisterRequest("Usuário Nativo", EMAIL, PASSWORD)).statusCode());
+
+        JsonNode login = json(send("POST", "/api/auth/login", null, new LoginRequest(EMAIL, PASSWORD)));
+        String token = login.path("token").asText();
+
+        HttpResponse<byte[]> profile = send("GET", "/api/users/profile", token, null);
+        assertEquals(200, profile.statusCode());
+        assertEquals(EMAIL, json(profile).path("email").asText());
+
+        JsonNode refreshed = json(send("POST", "/api/auth/refresh", null,
+                new RefreshTokenRequest(login.path("refreshToken").asText())));
+        String newToken = refreshed.path("token").asText();
+        assertFalse(newToken.isEmpty());
+
+        assertEquals(204, send("POST", "/api/auth/logout", newToken, null).statusCode());
+        assertEquals(401, send("GET", "/api/users/profile", newToken, null).statusCode());
+    }
+
+    @Test
+    public void testInvalidCredentialsReturnErrorBody() throws Exception {
+        HttpResponse<byte[]> response = send("POST", "/api/auth/login", null,
+                new LoginRequest("ninguem@ford.com", PASSWORD));
+
+        assertEquals(401, response.statusCode());
+        assertEquals("Credenciais inválidas", json(response).path("title").asText());
+    }
+
+    @Test
+    public void testOnlyHealthIsPublicOnActuator() throws Exception {
+        assertEquals(200, send("GET", "/actuator/health", null, null).statusCode());
+        assertEquals(401, send("GET", "/actuator/prometheus", null, null).statusCode());
+
+        assertEquals(201, send("POST", "/api/auth/register", null,
+                new RegisterRequest("Usuário Nativo", EMAIL, PASSWORD)).statusCode());
+        String token = json(send("POST", "/api/auth/login", null, new LoginRequest(EMAIL, PASSWORD)))
+                .path("token").asText();
+        assertEquals(403, send("GET", "/actuator/prometheus", token, null).statusCode());
+    }
+
+    @Test
+    public void testApiDocsAreServed() throws Exception {
+        HttpResponse<byte[]> response = send("GET", "/v3/api-docs", null, null);
+
+        assertEquals(200, response.statusCode());
+        assertTrue(json(response).path("paths").has("/api/auth/login"));
+    }
+
+    private HttpResponse<byte[]> send(String method, String path, String token, Object body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        builder.method(method, body != null
+                ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+                : HttpRequest.BodyPublishers.noBody());
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private JsonNode json(HttpResponse<byte[]> response) throws Exception {
+        return objectMapper.readTree(response.body());
+    }
+}
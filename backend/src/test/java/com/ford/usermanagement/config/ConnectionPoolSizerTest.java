@@ -0,0 +1,27 @@
+package com.ford.usermanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionPoolSizerTest {
+
+    @Test
+    public void testPoolIsSizedFromDatabaseCoresAndCappedByConcurrency() {
+        ConnectionPoolSizer sizer = new ConnectionPoolSizer();
+        ReflectionTestUtils.setField(sizer, "autoSize", true);
+        ReflectionTestUtils.setField(sizer, "dbCores", 8);
+        ReflectionTestUtils.setField(sizer, "spindles", 1);
+
+        HikariDataSource dataSource = new HikariDataSource();
+        sizer.postProcessAfterInitialization(dataSource, "primaryDataSource");
+
+        assertEquals(17, dataSource.getMaximumPoolSize());
+        assertEquals(17, dataSource.getMinimumIdle());
+
+        ReflectionTestUtils.setField(sizer, "expectedConcurrency", 12);
+        assertEquals(12, sizer.poolSize());
+    }
+}
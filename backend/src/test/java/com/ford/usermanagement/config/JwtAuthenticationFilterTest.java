@@ -0,0 +1,140 @@
+package com.ford.usermanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.service.JwtService;
+import com.ford.usermanagement.service.JwtTestFixtures;
+import com.ford.usermanagement.service.SecurityVersionRegistry;
+import com.ford.usermanagement.service.TokenRevocationService;
+import com.ford.usermanagement.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class JwtAuthenticationFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private JwtService jwtService;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    private JwtAuthenticationFilter filter;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        jwtService = JwtTestFixtures.jwtService(
+                JwtTestFixtures.signingKeys(JwtTestFixtures.SECRET, 2), meterRegistry);
+
+        user = new User("João Silva", "joao@ford.com", "hash");
+        user.setId(42L);
+        userDetailsService = mock(UserDetailsServiceImpl.class);
+        when(userDetailsService.loadUserByUsername("joao@ford.com")).thenReturn(user);
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtService", jwtService);
+        ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(filter, "securityVersionRegistry", mock(SecurityVersionRegistry.class));
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", new TokenRevocationService());
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(filter, "failureLogInterval", Duration.ofMinutes(1));
+        filter.initMetrics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testPublicRoutesSkipTheFilter() throws Exception {
+        for (String path : new String[] {"/api/health", "/api/auth/login", "/api/auth", "/actuator/health",
+                "/actuator/health/liveness", "/swagger-ui/index.html", "/v3/api-docs"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+            request.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+            FilterChain chain = mock(FilterChain.class);
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            verify(chain).doFilter(any(), any());
+            assertNull(SecurityContextHolder.getContext().getAuthentication(), path);
+        }
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    public void testProtectedRoutesAreFilteredIncludingUnderContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/users/profile");
+        request.setContextPath("/app");
+        MockHttpServletRequest lookalike = new MockHttpServletRequest("GET", "/api/healthz");
+        MockHttpServletRequest metrics = new MockHttpServletRequest("GET", "/actuator/prometheus");
+
+        assertFalse(filter.shouldNotFilter(request));
+        assertFalse(filter.shouldNotFilter(lookalike));
+        assertFalse(filter.shouldNotFilter(metrics));
+
+        MockHttpServletRequest publicUnderContext = new MockHttpServletRequest("GET", "/app/api/health");
+        publicUnderContext.setContextPath("/app");
+        assertTrue(filter.shouldNotFilter(publicUnderContext));
+    }
+
+    @Test
+    public void testBearerSchemeIsCaseInsensitiveAndTrimmed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/profile");
+        request.addHeader("Authorization", "bearer   " + jwtService.generateToken(user) + " ");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertSame(user, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+
+    @Test
+    public void testRejectedTokensAreCountedEveryTime() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/profile");
+            request.addHeader("Authorization", "Bearer not.a.jwt");
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(3.0, meterRegistry.get("auth.jwt.failures").tag("reason", "malformed").counter().count());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    public void testExhaustedPoolWhileLoadingUserReturnsServiceUnavailable() throws Exception {
+        SQLTransientConnectionException timeout = new SQLTransientConnectionException("Connection is not available");
+        when(userDetailsService.loadUserByUsername("joao@ford.com"))
+                .thenThrow(new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", timeout));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/profile");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Serviço temporariamente indisponível"));
+        verifyNoInteractions(chain);
+    }
+}
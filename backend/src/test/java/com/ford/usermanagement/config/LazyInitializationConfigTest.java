@@ -0,0 +1,23 @@
+package com.ford.usermanagement.config;
+
+import com.ford.usermanagement.service.AuthService;
+import com.ford.usermanagement.service.RefreshTokenService;
+import com.ford.usermanagement.service.TokenRevocationService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyInitializationConfigTest {
+
+    @Test
+    public void testBeansWithScheduledTasksAreExcludedFromLazyInit() {
+        assertTrue(LazyInitializationConfig.hasScheduledMethods(RefreshTokenService.class));
+        assertTrue(LazyInitializationConfig.hasScheduledMethods(TokenRevocationService.class));
+    }
+
+    @Test
+    public void testOtherBeansStayLazy() {
+        assertFalse(LazyInitializationConfig.hasScheduledMethods(AuthService.class));
+        assertFalse(LazyInitializationConfig.hasScheduledMethods(null));
+    }
+}
@@ -0,0 +1,209 @@
+package com.ford.usermanagement.controller;
+
+import com.ford.usermanagement.config.SecurityConfig;
+import com.ford.usermanagement.dto.UserFileFormat;
+import com.ford.usermanagement.dto.UserImportReport;
+import com.ford.usermanagement.dto.UserPageResponse;
+import com.ford.usermanagement.dto.UserRebalanceReport;
+import com.ford.usermanagement.model.Role;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.repository.ShardedUserStore;
+import com.ford.usermanagement.service.AuditService;
+import com.ford.usermanagement.service.InMemoryRateLimitStore;
+import com.ford.usermanagement.service.JwtService;
+import com.ford.usermanagement.service.RefreshTokenService;
+import com.ford.usermanagement.service.SecurityVersionRegistry;
+import com.ford.usermanagement.service.TokenRevocationService;
+import com.ford.usermanagement.service.UserExportService;
+import com.ford.usermanagement.service.UserImportService;
+import com.ford.usermanagement.service.UserDetailsServiceImpl;
+import com.ford.usermanagement.service.UserLookupService;
+import com.ford.usermanagement.service.UserSearchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AdminController.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class, InMemoryRateLimitStore.class})
+@ActiveProfiles("test")
+public class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @MockBean
+    private UserLookupService userLookupService;
+
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockBean
+    private AuditService auditService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    /** Também atende como o {@code UserStore} do controller, como no modo com shards. */
+    @MockBean
+    private ShardedUserStore shardedUserStore;
+
+    @MockBean
+    private UserImportService userImportService;
+
+    @MockBean
+    private UserExportService userExportService;
+
+    @MockBean
+    private UserSearchService userSearchService;
+
+    private User member;
+
+    private User admin;
+
+    @BeforeEach
+    public void setUp() {
+        member = new User("João Silva", "joao@ford.com", "$2a$10$hash");
+        member.setId(7L);
+        admin = new User("Administrador Ford", "admin@ford.com", "$2a$10$hash");
+        admin.setId(1L);
+        admin.setRole(Role.ADMIN);
+    }
+
+    @Test
+    public void testAdminRoutesAreForbiddenForRegularUsers() throws Exception {
+        mockMvc.perform(post("/api/admin/reset-password").with(user(member)))
+                .andExpect(status().isForbidden());
+
+        verify(shardedUserStore, never()).save(any());
+    }
+
+    @Test
+    public void testAdminRoutesAreAllowedForAdmins() throws Exception {
+        when(shardedUserStore.findByEmail("admin@ford.com")).thenReturn(Optional.of(admin));
+
+        mockMvc.perform(post("/api/admin/reset-password").with(user(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testImportIsForbiddenForRegularUsers() throws Exception {
+        mockMvc.perform(post("/api/admin/users/import").with(user(member))
+                .contentType("text/csv")
+                .content("name,email,password\nMaria,maria@ford.com,senha123\n"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/admin/users/import").with(user(member))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\":\"Maria\",\"email\":\"maria@ford.com\",\"password\":\"senha123\"}\n"))
+                .andExpect(status().isForbidden());
+
+        verify(userImportService, never()).importUsers(any(), any());
+    }
+
+    @Test
+    public void testImportIsAllowedForAdmins() throws Exception {
+        when(userImportService.importUsers(any(), eq(UserFileFormat.CSV))).thenReturn(new UserImportReport());
+
+        mockMvc.perform(post("/api/admin/users/import").with(user(admin))
+                .contentType("text/csv")
+                .content("name,email,password\nMaria,maria@ford.com,senha123\n"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testListingIsForbiddenForRegularUsers() throws Exception {
+        mockMvc.perform(get("/api/admin/users").param("q", "admin@").with(user(member)))
+                .andExpect(status().isForbidden());
+
+        verify(userSearchService, never()).search(any(), any(), anyInt());
+    }
+
+    @Test
+    public void testListingIsAllowedForAdmins() throws Exception {
+        when(userSearchService.search(null, null, 20)).thenReturn(new UserPageResponse(List.of(), null));
+
+        mockMvc.perform(get("/api/admin/users").with(user(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testExportIsForbiddenForRegularUsers() throws Exception {
+        mockMvc.perform(get("/api/admin/users/export").with(user(member)))
+                .andExpect(status().isForbidden());
+
+        verify(userExportService, never()).export(any(), any(UserFileFormat.class));
+    }
+
+    @Test
+    public void testExportIsAllowedForAdmins() throws Exception {
+        mockMvc.perform(get("/api/admin/users/export").with(user(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testExportCompressesOnlyWhenGzipIsAccepted() throws Exception {
+        mockMvc.perform(get("/api/admin/users/export").with(user(admin))
+                .header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.5"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+
+        for (String refused : new String[] {"gzip;q=0", "br, gzip; q=0.0", "*;q=0", "deflate"}) {
+            mockMvc.perform(get("/api/admin/users/export").with(user(admin))
+                    .header(HttpHeaders.ACCEPT_ENCODING, refused))
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+        }
+    }
+
+    @Test
+    public void testRebalanceIsForbiddenForRegularUsers() throws Exception {
+        mockMvc.perform(post("/api/admin/users/rebalance").with(user(member)))
+                .andExpect(status().isForbidden());
+
+        verify(shardedUserStore, never()).rebalance(anyInt());
+    }
+
+    @Test
+    public void testRebalanceIsAllowedForAdmins() throws Exception {
+        when(shardedUserStore.rebalance(500)).thenReturn(new UserRebalanceReport());
+
+        mockMvc.perform(post("/api/admin/users/rebalance").with(user(admin)))
+                .andExpect(status().isOk());
+    }
+}
@@ -2,20 +2,37 @@ package com.ford.usermanagement.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ford.usermanagement.dto.LoginRequest;
+import com.ford.usermanagement.dto.RefreshTokenRequest;
 import com.ford.usermanagement.dto.RegisterRequest;
+import com.ford.usermanagement.config.SecurityConfig;
+import com.ford.usermanagement.exception.InvalidRefreshTokenException;
 import com.ford.usermanagement.service.AuthService;
+import com.ford.usermanagement.service.InMemoryRateLimitStore;
+import com.ford.usermanagement.service.JwtService;
+import com.ford.usermanagement.service.SecurityVersionRegistry;
+import com.ford.usermanagement.service.TokenRevocationService;
+import com.ford.usermanagement.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class, InMemoryRateLimitStore.class})
 @ActiveProfiles("test")
 public class AuthControllerTest {
 
@@ -25,6 +42,21 @@ public class AuthControllerTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @MockBean
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -67,4 +99,42 @@ public class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    public void testLoginIsThrottledPerEmail() throws Exception {
+        LoginRequest request = new LoginRequest("maria@ford.com", "Wrong@123");
+
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+        verify(authService, times(10)).login(any(LoginRequest.class));
+    }
+
+    @Test
+    public void testRefreshWithInvalidTokenReturnsUnauthorized() throws Exception {
+        when(authService.refresh(any(RefreshTokenRequest.class)))
+                .thenThrow(new InvalidRefreshTokenException("Refresh token revogado"));
+
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("token-usado"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testLogoutWithoutBody() throws Exception {
+        mockMvc.perform(post("/api/auth/logout")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isNoContent());
+        verify(authService).logout("token", null);
+    }
 }
@@ -0,0 +1,129 @@
+package com.ford.usermanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.config.SecurityConfig;
+import com.ford.usermanagement.dto.UpdateProfileRequest;
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.exception.PreconditionFailedException;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.service.AuthService;
+import com.ford.usermanagement.service.InMemoryRateLimitStore;
+import com.ford.usermanagement.service.JwtService;
+import com.ford.usermanagement.service.ProfileETag;
+import com.ford.usermanagement.service.SecurityVersionRegistry;
+import com.ford.usermanagement.service.TokenRevocationService;
+import com.ford.usermanagement.service.TokenVerification;
+import com.ford.usermanagement.service.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserController.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class, InMemoryRateLimitStore.class})
+@ActiveProfiles("test")
+public class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @MockBean
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User principal;
+
+    private UserResponse profile;
+
+    private String etag;
+
+    @BeforeEach
+    public void setUp() {
+        principal = new User("João Silva", "joao@ford.com", "$2a$10$hash");
+        principal.setId(7L);
+        LocalDateTime now = LocalDateTime.now();
+        profile = new UserResponse(7L, "João Silva", "joao@ford.com", now, now);
+        profile.setVersion(3L);
+        etag = ProfileETag.of(7L, 3L);
+        when(authService.getUserProfile("joao@ford.com")).thenReturn(profile);
+    }
+
+    @Test
+    public void testProfileIsReturnedWithETag() throws Exception {
+        mockMvc.perform(get("/api/users/profile").with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    public void testMatchingIfNoneMatchReturnsNotModified() throws Exception {
+        mockMvc.perform(get("/api/users/profile").with(user(principal))
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void testStaleIfMatchReturnsPreconditionFailed() throws Exception {
+        UpdateProfileRequest request = new UpdateProfileRequest("João Souza", "joao@ford.com");
+        when(authService.updateProfile(eq("joao@ford.com"), any(UpdateProfileRequest.class), eq("\"7-0\"")))
+                .thenThrow(new PreconditionFailedException("Perfil alterado"));
+
+        mockMvc.perform(put("/api/users/profile").with(user(principal))
+                .header("If-Match", "\"7-0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testExpiredTokenReturnsUnauthorized() throws Exception {
+        when(jwtService.verifyToken("expired-token"))
+                .thenReturn(TokenVerification.failure(TokenVerification.Status.EXPIRED));
+
+        mockMvc.perform(get("/api/users/profile").header("Authorization", "Bearer expired-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testMissingTokenReturnsUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/users/profile"))
+                .andExpect(status().isUnauthorized());
+    }
+}
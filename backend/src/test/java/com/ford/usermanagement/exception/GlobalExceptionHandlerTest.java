@@ -0,0 +1,39 @@
+package com.ford.usermanagement.exception;
+
+import org.hibernate.exception.JDBCConnectionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    public void testPoolTimeoutFailsFastWithServiceUnavailable() {
+        SQLTransientConnectionException timeout =
+                new SQLTransientConnectionException("primary - Connection is not available, request timed out after 1000ms.");
+        CannotCreateTransactionException ex = new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction", new JDBCConnectionException("Unable to acquire JDBC Connection", timeout));
+
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleDatabaseUnavailable(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    public void testOtherDataAccessFailuresRemainInternalErrors() {
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                handler.handleDatabaseUnavailable(new DataAccessResourceFailureException("disco cheio"));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+}
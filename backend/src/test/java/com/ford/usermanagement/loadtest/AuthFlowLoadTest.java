@@ -0,0 +1,161 @@
+package com.ford.usermanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.dto.ChangePasswordRequest;
+import com.ford.usermanagement.dto.LoginRequest;
+import com.ford.usermanagement.dto.RegisterRequest;
+import com.ford.usermanagement.dto.UpdateProfileRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teste de carga de ponta a ponta contra a aplicação completa sobre H2.
+ * Cada usuário virtual executa: cadastro → login → leituras de perfil →
+ * atualização de perfil → troca de senha.
+ *
+ * Executado apenas com o profile Maven {@code load-test}:
+ * {@code ./mvnw -Pload-test test -Dloadtest.users=200 -Dloadtest.concurrency=20}
+ * O relatório é gravado em {@code target/load-test-report.json}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "app.security.rate-limit.enabled=false",
+        "logging.level.com.ford.usermanagement=INFO",
+        "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("test")
+public class AuthFlowLoadTest {
+
+    private static final String PASSWORD = "Password@123";
+    private static final String NEW_PASSWORD = "NewPassword@123";
+
+    private final int users = Integer.getInteger("loadtest.users", 50);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 10);
+    private final int profileReads = Integer.getInteger("loadtest.profile-reads", 5);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @Test
+    public void runAuthenticationFlow() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < users; i++) {
+            int userIndex = i;
+            futures.add(executor.submit(() -> {
+                runUser(userIndex);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        List<Map<String, Object>> endpoints = recorder.summarize(elapsed);
+        writeReport(endpoints, elapsed);
+
+        assertEquals(0, recorder.totalErrors(), "Requisições com erro durante o teste de carga");
+    }
+
+    private void runUser(int index) throws Exception {
+        String email = "loadtest" + index + "@ford.com";
+
+        send("POST /api/auth/register", 201, null, "/api/auth/register", "POST",
+                new RegisterRequest("Usuário Carga " + index, email, PASSWORD));
+
+        JsonNode login = send("POST /api/auth/login", 200, null, "/api/auth/login", "POST",
+                new LoginRequest(email, PASSWORD));
+        String token = login != null ? login.path("token").asText() : null;
+
+        for (int i = 0; i < profileReads; i++) {
+            send("GET /api/users/profile", 200, token, "/api/users/profile", "GET", null);
+        }
+
+        send("PUT /api/users/profile", 200, token, "/api/users/profile", "PUT",
+                new UpdateProfileRequest("Usuário Carga " + index + " Atualizado", email));
+
+        send("PUT /api/users/password", 200, token, "/api/users/password", "PUT",
+                new ChangePasswordRequest(PASSWORD, NEW_PASSWORD));
+    }
+
+    private JsonNode send(String endpoint, int expectedStatus, String token, String path,
+                          String method, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest.BodyPublisher publisher = body != null
+                ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+                : HttpRequest.BodyPublishers.noBody();
+        builder.method(method, publisher);
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        long elapsed = System.nanoTime() - start;
+
+        boolean success = response.statusCode() == expectedStatus;
+        recorder.record(endpoint, elapsed, success);
+        if (!success || response.body().length == 0) {
+            return null;
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void writeReport(List<Map<String, Object>> endpoints, long elapsedNanos) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", users);
+        report.put("concurrency", concurrency);
+        report.put("profileReadsPerUser", profileReads);
+        report.put("elapsedMillis", elapsedNanos / 1_000_000);
+        report.put("endpoints", endpoints);
+
+        Path output = Paths.get("target", "load-test-report.json");
+        Files.createDirectories(output.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+
+        System.out.printf("%n%-28s %9s %7s %10s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms");
+        for (Map<String, Object> row : endpoints) {
+            System.out.printf("%-28s %9d %7d %10.2f %9.2f %9.2f %9.2f%n",
+                    row.get("endpoint"), row.get("requests"), row.get("errors"), row.get("throughputPerSecond"),
+                    row.get("p50Millis"), row.get("p95Millis"), row.get("p99Millis"));
+        }
+        System.out.println("Relatório: " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,65 @@
+package com.ford.usermanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registra latências e erros por endpoint e calcula p50/p95/p99 e vazão.
+ */
+class LatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    List<Map<String, Object>> summarize(long elapsedNanos) {
+        List<Map<String, Object>> report = new ArrayList<>();
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+
+        latencies.forEach((endpoint, samples) -> {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            row.put("requests", sorted.length);
+            row.put("errors", errors.containsKey(endpoint) ? errors.get(endpoint).sum() : 0L);
+            row.put("throughputPerSecond", round(sorted.length / elapsedSeconds));
+            row.put("p50Millis", percentileMillis(sorted, 50));
+            row.put("p95Millis", percentileMillis(sorted, 95));
+            row.put("p99Millis", percentileMillis(sorted, 99));
+            row.put("maxMillis", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1_000_000.0));
+            report.add(row);
+        });
+
+        report.sort((a, b) -> ((String) a.get("endpoint")).compareTo((String) b.get("endpoint")));
+        return report;
+    }
+
+    private static double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return round(sorted[Math.max(index, 0)] / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
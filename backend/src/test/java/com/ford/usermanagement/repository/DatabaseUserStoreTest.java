@@ -0,0 +1,34 @@
+package com.ford.usermanagement.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class DatabaseUserStoreTest {
+
+    @Test
+    public void testScanStreamsRowsOnMySqlOnly() throws Exception {
+        PreparedStatement mysqlStatement = mock(PreparedStatement.class);
+        DatabaseUserStore.prepareScan(connection("MySQL", mysqlStatement), "SELECT id FROM users", 1000);
+        verify(mysqlStatement).setFetchSize(Integer.MIN_VALUE);
+
+        PreparedStatement h2Statement = mock(PreparedStatement.class);
+        DatabaseUserStore.prepareScan(connection("H2", h2Statement), "SELECT id FROM users", 1000);
+        verify(h2Statement).setFetchSize(1000);
+    }
+
+    private Connection connection(String productName, PreparedStatement statement) throws Exception {
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(productName);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        return connection;
+    }
+}
@@ -0,0 +1,312 @@
+package com.ford.usermanagement.repository;
+
+import com.ford.usermanagement.dto.UserRebalanceReport;
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.model.User;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedUserStoreTest {
+
+    private final Map<String, UserShard> shards = new HashMap<>();
+
+    private ShardedUserStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = newStore(List.of(shard("a", false), shard("b", false), shard("c", false)), false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        store.shutdown();
+        shards.values().forEach(shard -> shard.jdbcTemplate().execute("SHUTDOWN"));
+    }
+
+    @Test
+    public void testUsersAreStoredOnlyOnTheirOwnerShard() {
+        UserShards ring = ring();
+        for (int i = 0; i < 60; i++) {
+            store.save(new User("User " + i, "user" + i + "@ford.com", "hash"));
+        }
+
+        for (int i = 0; i < 60; i++) {
+            String email = "user" + i + "@ford.com";
+            assertEquals(1, count(ring.owner(email), email));
+        }
+        assertTrue(store.countPerShard().values().stream().allMatch(count -> count > 0));
+        assertEquals(60, store.countPerShard().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void testEmailIsUniqueAcrossShardsIgnoringCase() {
+        store.save(new User("Maria", "maria@ford.com", "hash"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> store.save(new User("Outra Maria", "MARIA@ford.com", "hash")));
+        assertTrue(store.existsByEmail("Maria@Ford.com"));
+        assertEquals(List.of("maria@ford.com"),
+                store.findExistingEmails(List.of("MARIA@FORD.COM", "joao@ford.com")));
+    }
+
+    @Test
+    public void testIdsAreUniqueAndFoundOnAnyShard() {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            User user = store.save(new User("User " + i, "user" + i + "@ford.com", "hash"));
+            assertTrue(ids.add(user.getId()));
+            assertTrue(user.getId() < (1L << 53));
+        }
+
+        for (Long id : ids) {
+            assertEquals(id, store.findById(id).orElseThrow().getId());
+        }
+        assertTrue(store.findById(42L).isEmpty());
+    }
+
+    @Test
+    public void testEmailChangeMovesUserToTheNewOwnerShard() {
+        UserShards ring = ring();
+        String from = "maria@ford.com";
+        String to = emailOwnedByOtherShard(ring, ring.owner(from));
+        User user = store.save(new User("Maria", from, "hash"));
+
+        user.setEmail(to);
+        User updated = store.save(user);
+
+        assertEquals(1, updated.getVersion());
+        assertEquals(0, count(ring.owner(from), from) + count(ring.owner(from), to));
+        assertEquals(1, count(ring.owner(to), to));
+        assertEquals(user.getId(), store.findByEmail(to).orElseThrow().getId());
+        assertTrue(store.findByEmail(from).isEmpty());
+    }
+
+    @Test
+    public void testStaleVersionIsRejected() {
+        User user = store.save(new User("Maria", "maria@ford.com", "hash"));
+        User stale = store.findById(user.getId()).orElseThrow();
+
+        user.setName("Maria Silva");
+        store.save(user);
+        stale.setName("Maria Souza");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> store.save(stale));
+        assertEquals("Maria Silva", store.findById(user.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void testSecurityVersionsAreCollectedFromAllShards() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            User user = new User("User " + i, "user" + i + "@ford.com", "hash");
+            user.setSecurityVersion(i % 3);
+            user = store.save(user);
+            expected.put(user.getId(), user.getSecurityVersion());
+        }
+
+        assertEquals(expected, store.findSecurityVersionsUpdatedAfter(before));
+        assertTrue(store.findSecurityVersionsUpdatedAfter(LocalDateTime.now().plusMinutes(1)).isEmpty());
+    }
+
+    @Test
+    public void testBulkInsertReportsDuplicatesPerShard() {
+        store.save(new User("Existente", "user3@ford.com", "hash"));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(new User("User " + i, "user" + i + "@ford.com", "hash"));
+        }
+
+        assertEquals(Set.of("user3@ford.com"), store.insertAll(users));
+        assertEquals(20, store.countPerShard().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void testPagesMergeShardsInListingOrder() {
+        for (int i = 0; i < 25; i++) {
+            User user = store.save(new User("User " + i, "user" + i + "@ford.com", "hash"));
+            user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+            ring().owner(user.getEmail()).jdbcTemplate().update(
+                    "UPDATE users SET created_at = ? WHERE id = ?", user.getCreatedAt(), user.getId());
+        }
+
+        List<UserResponse> first = store.findPage(null, 10);
+        UserResponse last = first.get(first.size() - 1);
+        List<UserResponse> second = store.findPageAfter(null, last.getCreatedAt(), last.getId(), 10);
+
+        assertEquals("User 24", first.get(0).getName());
+        assertEquals("User 15", last.getName());
+        assertEquals("User 14", second.get(0).getName());
+        assertEquals("User 5", second.get(9).getName());
+        assertEquals(List.of("User 24", "User 23", "User 22", "User 21", "User 20", "User 2"),
+                store.findPage("User 2%", 10).stream().map(UserResponse::getName).toList());
+    }
+
+    @Test
+    public void testRebalanceMovesUsersToAddedShard() {
+        for (int i = 0; i < 300; i++) {
+            store.save(new User("User " + i, "user" + i + "@ford.com", "hash"));
+        }
+
+        List<UserShard> expanded = new ArrayList<>(ring().all());
+        expanded.add(shard("d", false));
+        store.shutdown();
+        store = newStore(expanded, true);
+
+        // Antes da redistribuição, os usuários que mudaram de dono seguem visíveis
+        for (int i = 0; i < 300; i++) {
+            assertTrue(store.findByEmail("user" + i + "@ford.com").isPresent());
+        }
+        assertTrue(store.existsByEmail("USER7@ford.com"));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> store.save(new User("Duplicado", "user7@ford.com", "hash")));
+
+        UserRebalanceReport report = store.rebalance(50);
+
+        assertTrue(report.getScanned() >= 300);
+        assertEquals(0, report.getConflicts());
+        assertEquals(report.getMoved(), report.getUsersPerShard().get("d"));
+        assertTrue(report.getMoved() > 30 && report.getMoved() < 130, "movidos: " + report.getMoved());
+        for (int i = 0; i < 300; i++) {
+            String email = "user" + i + "@ford.com";
+            assertEquals(1, count(ring().owner(email), email));
+        }
+        assertEquals(0, store.rebalance(50).getMoved());
+    }
+
+    @Test
+    public void testRebalanceDrainsShard() {
+        for (int i = 0; i < 100; i++) {
+            store.save(new User("User " + i, "user" + i + "@ford.com", "hash"));
+        }
+        List<UserShard> draining = ring().all().stream()
+                .map(shard -> shard.name().equals("c") ? shard("c", true) : shard)
+                .toList();
+        store.shutdown();
+        store = newStore(draining, true);
+
+        UserRebalanceReport report = store.rebalance(20);
+
+        assertEquals(0L, report.getUsersPerShard().get("c"));
+        assertEquals(100, report.getUsersPerShard().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void testAddingShardRemapsAboutOneNthOfKeys() {
+        UserShards three = ring();
+        UserShards four = new UserShards(List.of(shards.get("a"), shards.get("b"), shards.get("c"),
+                shard("d", false)), 128);
+
+        int moved = 0;
+        int keys = 20000;
+        for (int i = 0; i < keys; i++) {
+            String email = "user" + i + "@ford.com";
+            UserShard before = three.owner(email);
+            UserShard after = four.owner(email);
+            if (before != after) {
+                assertEquals("d", after.name());
+                moved++;
+            }
+        }
+        assertTrue(moved > keys * 0.18 && moved < keys * 0.32, "remapeados: " + moved);
+    }
+
+    @Test
+    public void testNodeIdIsRequired() {
+        assertThrows(IllegalStateException.class, () -> newStore(ring().all(), false, null));
+    }
+
+    @Test
+    public void testNodeIdInUseByAnotherInstanceIsRejected() {
+        assertThrows(IllegalStateException.class, () -> newStore(ring().all(), false, 1));
+
+        ShardedUserStore other = newStore(ring().all(), false, 2);
+        other.shutdown();
+    }
+
+    @Test
+    public void testIdSharedByDifferentUsersFailsLookup() {
+        // Outra instância com o mesmo node-id gerou o mesmo id para outro email
+        User maria = store.save(new User("Maria", "maria@ford.com", "hash"));
+        String other = emailOwnedByOtherShard(ring(), ring().owner(maria.getEmail()));
+        ring().owner(other).jdbcTemplate().update("INSERT INTO users (id, name, email, password, role, "
+                        + "security_version, version, created_at, updated_at) "
+                        + "VALUES (?, 'Outra', ?, 'hash', 'USER', 0, 0, ?, ?)",
+                maria.getId(), other, maria.getCreatedAt().plusNanos(1000), maria.getCreatedAt());
+
+        assertThrows(IllegalStateException.class, () -> store.findById(maria.getId()));
+    }
+
+    private ShardedUserStore newStore(List<UserShard> userShards, boolean resharding) {
+        return newStore(userShards, resharding, 1);
+    }
+
+    /**
+     * O shard "a" faz também o papel do banco principal, onde fica a reserva do node-id.
+     */
+    private ShardedUserStore newStore(List<UserShard> userShards, boolean resharding, Integer nodeId) {
+        ShardedUserStore sharded = new ShardedUserStore();
+        ReflectionTestUtils.setField(sharded, "userShards", new UserShards(userShards, 128));
+        ReflectionTestUtils.setField(sharded, "jdbcTemplate", shards.get("a").jdbcTemplate());
+        ReflectionTestUtils.setField(sharded, "nodeId", nodeId);
+        ReflectionTestUtils.setField(sharded, "nodeLeaseTtlMillis", 60000L);
+        ReflectionTestUtils.setField(sharded, "resharding", resharding);
+        sharded.init();
+        return sharded;
+    }
+
+    private UserShards ring() {
+        return (UserShards) ReflectionTestUtils.getField(store, "userShards");
+    }
+
+    /**
+     * H2 em modo MySQL, sem diferenciar maiúsculas como a collation padrão do MySQL.
+     */
+    private UserShard shard(String name, boolean draining) {
+        UserShard existing = shards.get(name);
+        if (existing != null) {
+            return new UserShard(name, existing.jdbcTemplate(), existing.transactionTemplate(), draining);
+        }
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:shard-" + name + "-" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        UserShard shard = new UserShard(name, new JdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), draining);
+        shards.put(name, shard);
+        return shard;
+    }
+
+    private static int count(UserShard shard, String email) {
+        return shard.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email);
+    }
+
+    private static String emailOwnedByOtherShard(UserShards ring, UserShard shard) {
+        for (int i = 0; ; i++) {
+            String email = "maria" + i + "@ford.com";
+            if (ring.owner(email) != shard) {
+                return email;
+            }
+        }
+    }
+}
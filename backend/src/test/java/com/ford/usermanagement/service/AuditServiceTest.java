@@ -0,0 +1,91 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.dto.LoginRequest;
+import com.ford.usermanagement.dto.RegisterRequest;
+import com.ford.usermanagement.model.AuditEventType;
+import com.ford.usermanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class AuditServiceTest {
+
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.findByEmail("auditoria@ford.com").ifPresent(userRepository::delete);
+        jdbcTemplate.update("DELETE FROM audit_events WHERE email = ?", "auditoria@ford.com");
+    }
+
+    @Test
+    public void testAuthEventsAreWrittenAsynchronously() throws InterruptedException {
+        authService.register(new RegisterRequest("Auditoria", "auditoria@ford.com", "Password@123"));
+        authService.login(new LoginRequest("auditoria@ford.com", "Password@123"));
+        assertThrows(BadCredentialsException.class,
+                () -> authService.login(new LoginRequest("auditoria@ford.com", "Errada@123")));
+
+        List<String> types = awaitEvents(3);
+
+        assertEquals(List.of(AuditEventType.REGISTER.name(), AuditEventType.LOGIN_SUCCESS.name(),
+                AuditEventType.LOGIN_FAILURE.name()), types);
+    }
+
+    @Test
+    public void testSuccessEventIsDiscardedOnRollback() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            auditService.record(AuditEventType.REGISTER, null, "auditoria@ford.com");
+            auditService.record(AuditEventType.LOGIN_FAILURE, null, "auditoria@ford.com");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(AuditEventType.LOGIN_FAILURE.name()), awaitEvents(1));
+    }
+
+    @Test
+    public void testOversizedDetailsAreTruncatedWithoutLosingTheBatch() throws InterruptedException {
+        String details = "email anterior: " + "x".repeat(300) + "@ford.com";
+
+        auditService.record(AuditEventType.PROFILE_UPDATE, null, "auditoria@ford.com", details);
+        auditService.record(AuditEventType.LOGIN_FAILURE, null, "auditoria@ford.com");
+
+        assertEquals(2, awaitEvents(2).size());
+        assertEquals(details.substring(0, 255), jdbcTemplate.queryForObject(
+                "SELECT details FROM audit_events WHERE email = ? AND details IS NOT NULL", String.class,
+                "auditoria@ford.com"));
+    }
+
+    private List<String> awaitEvents(int expected) throws InterruptedException {
+        List<String> types = List.of();
+        for (int i = 0; i < 50 && types.size() < expected; i++) {
+            Thread.sleep(100);
+            types = jdbcTemplate.queryForList(
+                    "SELECT event_type FROM audit_events WHERE email = ? ORDER BY id", String.class, "auditoria@ford.com");
+        }
+        return types;
+    }
+}
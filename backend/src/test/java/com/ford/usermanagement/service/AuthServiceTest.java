@@ -0,0 +1,42 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtSigningKeys signingKeys;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    public void testLogoutWithTokenWithoutIdSkipsRevocationList() {
+        // Formato dos tokens emitidos antes do jti: sem id e sem kid
+        String legacyToken = Jwts.builder()
+                .setSubject("legado@ford.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(signingKeys.getActiveKey(), SignatureAlgorithm.HS256)
+                .compact();
+        long revoked = revokedTokenRepository.count();
+
+        assertDoesNotThrow(() -> authService.logout(legacyToken, null));
+        assertEquals(revoked, revokedTokenRepository.count());
+    }
+}
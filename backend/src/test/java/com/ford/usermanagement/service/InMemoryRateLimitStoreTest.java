@@ -0,0 +1,66 @@
+package com.ford.usermanagement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryRateLimitStoreTest {
+
+    private InMemoryRateLimitStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new InMemoryRateLimitStore();
+        ReflectionTestUtils.setField(store, "maxKeys", 1000L);
+        ReflectionTestUtils.setField(store, "idleTimeout", Duration.ofMinutes(15));
+        store.init();
+    }
+
+    @Test
+    public void testBucketRejectsAfterCapacityAndReportsWait() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(store.tryConsume("ip:10.0.0.1", 3, Duration.ofMinutes(1)).isZero());
+        }
+
+        Duration wait = store.tryConsume("ip:10.0.0.1", 3, Duration.ofMinutes(1));
+
+        assertFalse(wait.isZero());
+        assertTrue(wait.compareTo(Duration.ofSeconds(20)) <= 0);
+        assertTrue(store.tryConsume("ip:10.0.0.2", 3, Duration.ofMinutes(1)).isZero());
+    }
+
+    @Test
+    public void testBucketRefillsOverTime() throws InterruptedException {
+        assertTrue(store.tryConsume("email:joao@ford.com", 1, Duration.ofMillis(50)).isZero());
+        assertFalse(store.tryConsume("email:joao@ford.com", 1, Duration.ofMillis(50)).isZero());
+
+        Thread.sleep(60);
+
+        assertTrue(store.tryConsume("email:joao@ford.com", 1, Duration.ofMillis(50)).isZero());
+    }
+
+    @Test
+    public void testConcurrentConsumersNeverExceedCapacity() throws InterruptedException {
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (store.tryConsume("ip:10.0.0.3", 100, Duration.ofHours(1)).isZero()) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, granted.get());
+    }
+}
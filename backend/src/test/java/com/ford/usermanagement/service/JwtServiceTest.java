@@ -0,0 +1,128 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.model.Role;
+import com.ford.usermanagement.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtServiceTest {
+
+    private JwtSigningKeys signingKeys;
+
+    private JwtService jwtService;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        signingKeys = JwtTestFixtures.signingKeys(JwtTestFixtures.SECRET, 2);
+        jwtService = JwtTestFixtures.jwtService(signingKeys, new SimpleMeterRegistry());
+
+        user = new User("João Silva", "joao@ford.com", "hash");
+        user.setId(42L);
+        user.setSecurityVersion(3);
+    }
+
+    @Test
+    public void testGeneratedTokenIsValid() {
+        String token = jwtService.generateToken(user);
+
+        assertEquals("joao@ford.com", jwtService.extractUsername(token));
+        assertTrue(jwtService.validateToken(token, user));
+        assertFalse(jwtService.isTokenExpired(token));
+    }
+
+    @Test
+    public void testEachTokenHasUniqueId() {
+        String first = jwtService.generateToken(user);
+        String second = jwtService.generateToken(user);
+
+        assertNotNull(jwtService.extractTokenId(first));
+        assertNotEquals(jwtService.extractTokenId(first), jwtService.extractTokenId(second));
+    }
+
+    @Test
+    public void testVerifiedTokenIsParsedOnlyOnce() {
+        String token = jwtService.generateToken(user);
+
+        Claims first = jwtService.extractClaim(token, Function.identity());
+        Claims second = jwtService.extractClaim(token, Function.identity());
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testPrincipalIsRebuiltFromClaims() {
+        String token = jwtService.generateToken(user);
+
+        User principal = jwtService.extractPrincipal(token);
+
+        assertEquals(42L, principal.getId());
+        assertEquals("João Silva", principal.getName());
+        assertEquals("joao@ford.com", principal.getEmail());
+        assertEquals(3, principal.getSecurityVersion());
+        assertEquals(Role.USER, principal.getRole());
+        assertNull(principal.getPassword());
+    }
+
+    @Test
+    public void testTokenForAnotherUserIsRejected() {
+        String token = jwtService.generateToken(user);
+        User other = new User("Maria Souza", "maria@ford.com", "hash");
+
+        assertFalse(jwtService.validateToken(token, other));
+    }
+
+    @Test
+    public void testTokensSignedWithPreviousKeyRemainValidAfterRotation() {
+        String oldToken = jwtService.generateToken(user);
+
+        signingKeys.rotate("2024-02", "another-secret-key-for-jwt-token-256-bits");
+        String newToken = jwtService.generateToken(user);
+
+        assertTrue(jwtService.validateToken(oldToken, user));
+        assertTrue(jwtService.validateToken(newToken, user));
+    }
+
+    @Test
+    public void testTokensSignedWithEvictedKeyAreRejected() {
+        String oldToken = jwtService.generateToken(user);
+        assertTrue(jwtService.validateToken(oldToken, user));
+
+        signingKeys.rotate("2024-02", "another-secret-key-for-jwt-token-256-bits");
+        signingKeys.rotate("2024-03", "yet-another-secret-key-for-jwt-256-bits!");
+
+        assertThrows(SignatureException.class, () -> jwtService.validateToken(oldToken, user));
+    }
+
+    @Test
+    public void testVerifyTokenReturnsCachedResultForValidToken() {
+        String token = jwtService.generateToken(user);
+
+        TokenVerification first = jwtService.verifyToken(token);
+        TokenVerification second = jwtService.verifyToken(token);
+
+        assertTrue(first.isValid());
+        assertSame(first, second);
+        assertEquals("joao@ford.com", first.getClaims().getSubject());
+    }
+
+    @Test
+    public void testVerifyTokenReportsFailuresWithoutThrowing() {
+        String oldToken = jwtService.generateToken(user);
+        signingKeys.rotate("2024-02", "another-secret-key-for-jwt-token-256-bits");
+        signingKeys.rotate("2024-03", "yet-another-secret-key-for-jwt-256-bits!");
+
+        assertEquals(TokenVerification.Status.INVALID_SIGNATURE, jwtService.verifyToken(oldToken).getStatus());
+        assertEquals(TokenVerification.Status.MALFORMED, jwtService.verifyToken("not.a.jwt").getStatus());
+        assertEquals(TokenVerification.Status.INVALID, jwtService.verifyToken("").getStatus());
+        assertNull(jwtService.verifyToken("not.a.jwt").getClaims());
+    }
+}
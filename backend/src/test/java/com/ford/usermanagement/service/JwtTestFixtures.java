@@ -0,0 +1,43 @@
+package com.ford.usermanagement.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Monta {@link JwtSigningKeys} e {@link JwtService} fora do contexto Spring,
+ * preenchendo os campos que viriam de {@code @Value}. Usado pelos testes e
+ * pelos benchmarks JMH.
+ */
+public final class JwtTestFixtures {
+
+    public static final String SECRET = "test-secret-key-for-jwt-token-with-256-bits";
+
+    private JwtTestFixtures() {}
+
+    /** Chave {@code default} com o segredo informado, sem arquivo de rotação. */
+    public static JwtSigningKeys signingKeys(String secret, int maxActiveKeys) {
+        JwtSigningKeys signingKeys = new JwtSigningKeys();
+        ReflectionTestUtils.setField(signingKeys, "jwtSecret", secret);
+        ReflectionTestUtils.setField(signingKeys, "jwtKeyId", "default");
+        ReflectionTestUtils.setField(signingKeys, "maxActiveKeys", maxActiveKeys);
+        ReflectionTestUtils.setField(signingKeys, "rotationFile", "");
+        signingKeys.init();
+        return signingKeys;
+    }
+
+    public static JwtService jwtService(JwtSigningKeys signingKeys, MeterRegistry meterRegistry,
+                                        long expiration, long tokenCacheMaxSize) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "signingKeys", signingKeys);
+        ReflectionTestUtils.setField(jwtService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", expiration);
+        ReflectionTestUtils.setField(jwtService, "tokenCacheMaxSize", tokenCacheMaxSize);
+        jwtService.init();
+        return jwtService;
+    }
+
+    /** Configuração dos testes unitários: duas chaves ativas, token de 1 minuto e cache pequeno. */
+    public static JwtService jwtService(JwtSigningKeys signingKeys, MeterRegistry meterRegistry) {
+        return jwtService(signingKeys, meterRegistry, 60000L, 100L);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingServiceTest {
+
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    public void setUp() {
+        passwordHashingService = new PasswordHashingService();
+        ReflectionTestUtils.setField(passwordHashingService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(passwordHashingService, "strength", 6);
+        ReflectionTestUtils.setField(passwordHashingService, "threads", 1);
+        ReflectionTestUtils.setField(passwordHashingService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(passwordHashingService, "timeoutMillis", 5000L);
+        passwordHashingService.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    public void testEncodeAndMatch() {
+        String hash = passwordHashingService.encode("Password@123");
+
+        assertTrue(passwordHashingService.matches("Password@123", hash));
+        assertFalse(passwordHashingService.matches("Wrong@123", hash));
+    }
+
+    @Test
+    public void testOutdatedCostNeedsUpgrade() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("Password@123");
+        String currentHash = passwordHashingService.encode("Password@123");
+
+        assertTrue(passwordHashingService.upgradeEncoding(weakHash));
+        assertFalse(passwordHashingService.upgradeEncoding(currentHash));
+    }
+
+    @Test
+    public void testSaturatedPoolFailsFast() {
+        ThreadPoolExecutor executor =
+                (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordHashingService, "executor");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+        executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+        try {
+            assertThrows(PasswordHashingUnavailableException.class,
+                    () -> passwordHashingService.encode("Password@123"));
+        } finally {
+            release.countDown();
+        }
+    }
+}
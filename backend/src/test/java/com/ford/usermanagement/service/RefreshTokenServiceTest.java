@@ -0,0 +1,61 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.exception.InvalidRefreshTokenException;
+import com.ford.usermanagement.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class RefreshTokenServiceTest {
+
+    private static final Long USER_ID = 4242L;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    public void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    public void testRotationIssuesNewTokenAndStoresOnlyHash() {
+        String issued = refreshTokenService.issue(USER_ID);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(issued);
+
+        assertEquals(USER_ID, rotation.userId());
+        assertNotEquals(issued, rotation.refreshToken());
+        assertTrue(refreshTokenRepository.findAll().stream()
+                .noneMatch(token -> token.getTokenHash().equals(issued)));
+    }
+
+    @Test
+    public void testReusedTokenRevokesWholeFamily() {
+        String issued = refreshTokenService.issue(USER_ID);
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(issued);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(issued));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(rotation.refreshToken()));
+    }
+
+    @Test
+    public void testRevokeAllForUserInvalidatesOutstandingTokens() {
+        String first = refreshTokenService.issue(USER_ID);
+        String second = refreshTokenService.issue(USER_ID);
+
+        refreshTokenService.revokeAllForUser(USER_ID);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(first));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(second));
+    }
+}
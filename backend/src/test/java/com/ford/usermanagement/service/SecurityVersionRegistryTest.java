@@ -0,0 +1,67 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.repository.UserStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SecurityVersionRegistryTest {
+
+    private UserStore userStore;
+
+    private SecurityVersionRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        userStore = mock(UserStore.class);
+        registry = new SecurityVersionRegistry();
+        ReflectionTestUtils.setField(registry, "userStore", userStore);
+        ReflectionTestUtils.setField(registry, "jwtExpiration", 900000L);
+        ReflectionTestUtils.setField(registry, "claimsAuthoritative", true);
+        registry.init();
+    }
+
+    @Test
+    public void testVersionsBumpedOnOtherInstancesAreLoadedAndSynced() {
+        when(userStore.findSecurityVersionsUpdatedAfter(any(LocalDateTime.class))).thenReturn(Map.of(1L, 2));
+        registry.start();
+
+        assertTrue(registry.isStale(1L, 1));
+        assertFalse(registry.isStale(1L, 2));
+        assertFalse(registry.isStale(7L, 0));
+
+        when(userStore.findSecurityVersionsUpdatedAfter(any(LocalDateTime.class))).thenReturn(Map.of(7L, 1, 1L, 2));
+        registry.sync();
+
+        assertTrue(registry.isStale(7L, 0));
+        assertTrue(registry.isStale(1L, 1));
+    }
+
+    @Test
+    public void testOlderVersionFromTheDatabaseDoesNotOverrideALocalBump() {
+        when(userStore.findSecurityVersionsUpdatedAfter(any(LocalDateTime.class))).thenReturn(Map.of());
+        registry.start();
+        registry.record(1L, 3);
+
+        when(userStore.findSecurityVersionsUpdatedAfter(any(LocalDateTime.class))).thenReturn(Map.of(1L, 2));
+        registry.sync();
+
+        assertTrue(registry.isStale(1L, 2));
+    }
+
+    @Test
+    public void testNothingIsQueriedWithoutClaimsAuthoritativeMode() {
+        ReflectionTestUtils.setField(registry, "claimsAuthoritative", false);
+        registry.start();
+        registry.sync();
+
+        verifyNoInteractions(userStore);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ford.usermanagement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ford.usermanagement.dto.UserFileFormat;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserExportServiceTest {
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepository.save(new User("Silva, \"Zé\"", "ze@ford.com", "$2a$10$hash"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    public void testCsvExportQuotesFieldsAndOmitsPasswords() throws Exception {
+        List<String> lines = export(UserFileFormat.CSV);
+
+        assertEquals("id,name,email,created_at,updated_at", lines.get(0));
+        assertEquals(userRepository.count() + 1, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith(user.getId() + ",\"Silva, \"\"Zé\"\"\",ze@ford.com,")));
+        assertTrue(lines.stream().noneMatch(line -> line.contains("$2a$")));
+    }
+
+    @Test
+    public void testNdjsonExportWritesOneObjectPerLine() throws Exception {
+        List<String> lines = export(UserFileFormat.NDJSON);
+
+        assertEquals(userRepository.count(), lines.size());
+        JsonNode exported = null;
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertFalse(node.has("password"));
+            if (node.get("id").asLong() == user.getId()) {
+                exported = node;
+            }
+        }
+        assertNotNull(exported);
+        assertEquals("Silva, \"Zé\"", exported.get("name").asText());
+    }
+
+    private List<String> export(UserFileFormat format) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        userExportService.export(output, format);
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
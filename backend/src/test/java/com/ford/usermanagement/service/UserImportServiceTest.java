@@ -0,0 +1,112 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.dto.UserFileFormat;
+import com.ford.usermanagement.dto.UserImportReport;
+import com.ford.usermanagement.dto.UserImportResult;
+import com.ford.usermanagement.exception.InvalidImportFileException;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(userImportService, "batchSize", 2);
+        userRepository.save(new User("Usuário Existente", "existente@ford.com", "$2a$10$hash"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReflectionTestUtils.setField(userImportService, "batchSize", 500);
+        for (String email : List.of("existente@ford.com", "ana@ford.com", "bruno@ford.com", "diego@ford.com")) {
+            userRepository.findByEmail(email).ifPresent(userRepository::delete);
+        }
+    }
+
+    @Test
+    public void testCsvImportReportsEachRow() throws Exception {
+        String csv = """
+                email,name,password
+                ana@ford.com,Ana Lima,Password@123
+                existente@ford.com,Usuário Existente,Password@123
+                "bruno@ford.com","Bruno ""Bê"" Costa",Password@123
+                ANA@ford.com,Ana Repetida,Password@123
+                carla@ford.com,Carla Dias,fraca
+                "sem-fechamento@ford.com,Sem Aspas,Password@123
+                """;
+
+        UserImportReport report = userImportService.importUsers(stream(csv), UserFileFormat.CSV);
+
+        assertEquals(6, report.getTotal());
+        assertEquals(2, report.getCreated());
+        assertEquals(2, report.getDuplicates());
+        assertEquals(2, report.getInvalid());
+
+        List<UserImportResult> results = report.getResults();
+        assertEquals(UserImportResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(2, results.get(0).getLine());
+        assertEquals(UserImportResult.Status.DUPLICATE, results.get(1).getStatus());
+        assertEquals(UserImportResult.Status.CREATED, results.get(2).getStatus());
+        assertEquals(UserImportResult.Status.DUPLICATE, results.get(3).getStatus());
+        assertEquals(UserImportResult.Status.INVALID, results.get(4).getStatus());
+        assertEquals(UserImportResult.Status.INVALID, results.get(5).getStatus());
+
+        User ana = userRepository.findByEmail("ana@ford.com").orElseThrow();
+        assertEquals("Ana Lima", ana.getName());
+        assertTrue(passwordEncoder.matches("Password@123", ana.getPassword()));
+        assertNotNull(ana.getCreatedAt());
+        assertEquals("Bruno \"Bê\" Costa", userRepository.findByEmail("bruno@ford.com").orElseThrow().getName());
+    }
+
+    @Test
+    public void testNdjsonImport() throws Exception {
+        String ndjson = """
+                {"name":"Diego Alves","email":"diego@ford.com","password":"Password@123"}
+                {"name":"Diego Alves"
+                {"name":"Eva Rocha","email":"existente@ford.com","password":"Password@123"}
+                """;
+
+        UserImportReport report = userImportService.importUsers(stream(ndjson), UserFileFormat.NDJSON);
+
+        assertEquals(1, report.getCreated());
+        assertEquals(1, report.getInvalid());
+        assertEquals(1, report.getDuplicates());
+        assertTrue(userRepository.existsByEmail("diego@ford.com"));
+    }
+
+    @Test
+    public void testCsvWithoutRequiredColumnsIsRejected() {
+        assertThrows(InvalidImportFileException.class,
+                () -> userImportService.importUsers(stream("email,name\n"), UserFileFormat.CSV));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
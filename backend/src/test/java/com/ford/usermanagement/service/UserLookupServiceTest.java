@@ -0,0 +1,109 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.dto.UpdateProfileRequest;
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.exception.EmailAlreadyExistsException;
+import com.ford.usermanagement.exception.PreconditionFailedException;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserLookupServiceTest {
+
+    @Autowired
+    private UserLookupService userLookupService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepository.save(new User("João Silva", "joao@ford.com", "$2a$10$hash"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteById(user.getId());
+        cacheManager.getCache(UserLookupService.USERS_BY_EMAIL).clear();
+        cacheManager.getCache(UserLookupService.USERS_BY_ID).clear();
+    }
+
+    @Test
+    public void testLookupsAreServedFromCache() {
+        User first = userLookupService.findByEmail("joao@ford.com").orElseThrow();
+        User byEmail = userLookupService.findByEmail("joao@ford.com").orElseThrow();
+        User byId = userLookupService.findById(user.getId()).orElseThrow();
+
+        assertSame(first, byEmail);
+        assertSame(first, byId);
+    }
+
+    @Test
+    public void testUpdateProfileEvictsPreviousEmail() {
+        userLookupService.findByEmail("joao@ford.com").orElseThrow();
+
+        authService.updateProfile("joao@ford.com", new UpdateProfileRequest("João Souza", "joao.souza@ford.com"));
+
+        assertTrue(userLookupService.findByEmail("joao@ford.com").isEmpty());
+        assertEquals("João Souza", userLookupService.findById(user.getId()).orElseThrow().getName());
+        assertEquals("João Souza", userLookupService.findByEmail("joao.souza@ford.com").orElseThrow().getName());
+    }
+
+    @Test
+    public void testUpdateProfileHonoursIfMatch() {
+        UserResponse profile = authService.getUserProfile("joao@ford.com");
+        String etag = ProfileETag.of(profile.getId(), profile.getVersion());
+
+        UserResponse updated = authService.updateProfile("joao@ford.com",
+                new UpdateProfileRequest("João Souza", "joao@ford.com"), etag);
+
+        assertThrows(PreconditionFailedException.class, () -> authService.updateProfile("joao@ford.com",
+                new UpdateProfileRequest("João Santos", "joao@ford.com"), etag));
+        UserResponse reloaded = authService.getUserProfile("joao@ford.com");
+        assertEquals("João Souza", reloaded.getName());
+        assertEquals(ProfileETag.of(updated.getId(), updated.getVersion()),
+                ProfileETag.of(reloaded.getId(), reloaded.getVersion()));
+    }
+
+    @Test
+    public void testUpdateProfileToTakenEmailIsRejected() {
+        User other = userRepository.save(new User("Maria Souza", "maria@ford.com", "$2a$10$hash"));
+        try {
+            assertThrows(EmailAlreadyExistsException.class, () -> authService.updateProfile("joao@ford.com",
+                    new UpdateProfileRequest("João Silva", "maria@ford.com")));
+            assertEquals("joao@ford.com", userRepository.findById(user.getId()).orElseThrow().getEmail());
+        } finally {
+            userRepository.deleteById(other.getId());
+        }
+    }
+
+    @Test
+    public void testStaleWriteFailsWithOptimisticLock() {
+        User stale = userRepository.findById(user.getId()).orElseThrow();
+
+        authService.updateProfile("joao@ford.com", new UpdateProfileRequest("João Souza", "joao@ford.com"));
+        stale.setName("João Santos");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> userRepository.save(stale));
+        assertEquals("João Souza", userRepository.findById(user.getId()).orElseThrow().getName());
+    }
+}
@@ -0,0 +1,89 @@
+package com.ford.usermanagement.service;
+
+import com.ford.usermanagement.dto.UserPageResponse;
+import com.ford.usermanagement.dto.UserResponse;
+import com.ford.usermanagement.exception.InvalidCursorException;
+import com.ford.usermanagement.model.User;
+import com.ford.usermanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserSearchServiceTest {
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            users.add(userRepository.save(new User("Concessionária " + i, "conc" + i + "@ford.com", "$2a$10$hash")));
+        }
+        users.add(userRepository.save(new User("Outro_Nome", "outro@ford.com", "$2a$10$hash")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteAll(users);
+        users.clear();
+    }
+
+    @Test
+    public void testPagesWalkNewestFirstWithoutGapsOrRepeats() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            UserPageResponse page = userSearchService.search("Concessionária", cursor, 2);
+            page.getItems().stream().map(UserResponse::getId).forEach(seen::add);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        List<Long> expected = users.subList(0, 5).stream().map(User::getId).sorted((a, b) -> Long.compare(b, a)).toList();
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    public void testPrefixSearchMatchesNameOrEmailAndEscapesWildcards() {
+        assertEquals(1, userSearchService.search("outro@", null, 20).getItems().size());
+        assertEquals(1, userSearchService.search("Outro_", null, 20).getItems().size());
+        assertTrue(userSearchService.search("Conc_", null, 20).getItems().isEmpty());
+        assertTrue(userSearchService.search("%", null, 20).getItems().isEmpty());
+    }
+
+    @Test
+    public void testLiteralWildcardsInNamesMatchOnlyThemselves() {
+        // No H2 em modo MySQL; confere o escape '\\' das consultas JPQL com curingas literais nos dados
+        users.add(userRepository.save(new User("Promo 100% Ford", "promo1@ford.com", "$2a$10$hash")));
+        users.add(userRepository.save(new User("Promo 1000 Ford", "promo2@ford.com", "$2a$10$hash")));
+        users.add(userRepository.save(new User("Dir\\Ford", "dir@ford.com", "$2a$10$hash")));
+
+        List<UserResponse> percent = userSearchService.search("Promo 100%", null, 20).getItems();
+        assertEquals(List.of("promo1@ford.com"), percent.stream().map(UserResponse::getEmail).toList());
+        assertEquals(2, userSearchService.search("Promo 100", null, 20).getItems().size());
+        assertEquals(1, userSearchService.search("Dir\\", null, 20).getItems().size());
+        assertTrue(userSearchService.search("Dir\\_", null, 20).getItems().isEmpty());
+    }
+
+        @Test
+    public void testInvalidCursorIsRejected() {
+        assertThrows(InvalidCursorException.class, () -> userSearchService.search(null, "não-é-cursor", 20));
+    }
+}
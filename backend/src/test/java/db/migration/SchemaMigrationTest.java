@@ -0,0 +1,117 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bancos anteriores às migrações (criados pelo antigo {@code docker/mysql/init.sql})
+ * devem terminar com o mesmo esquema de um banco novo.
+ */
+public class SchemaMigrationTest {
+
+    private static final List<String> TABLES = List.of("users", "refresh_tokens", "revoked_tokens", "audit_events");
+
+    /** Conteúdo do {@code docker/mysql/init.sql} removido na adoção do Flyway. */
+    private static final String[] LEGACY_SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS users (" +
+                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                    "name VARCHAR(255) NOT NULL, " +
+                    "email VARCHAR(255) NOT NULL UNIQUE, " +
+                    "password VARCHAR(255) NOT NULL, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)",
+            "CREATE INDEX idx_email ON users (email)",
+            "INSERT INTO users (name, email, password) VALUES ('Administrador Ford', 'admin@ford.com', 'hash')"
+    };
+
+    @Test
+    public void testLegacyDatabaseIsMigratedToCurrentSchema() throws SQLException {
+        SingleConnectionDataSource legacy = dataSource();
+        SingleConnectionDataSource fresh = dataSource();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(legacy);
+        for (String statement : LEGACY_SCHEMA) {
+            jdbcTemplate.execute(statement);
+        }
+
+        migrate(legacy);
+        migrate(fresh);
+
+        assertEquals(describe(fresh), describe(legacy));
+        assertFalse(SchemaMetadata.hasIndex(legacy.getConnection(), "users", "idx_email"));
+        assertEquals(Map.of("security_version", 0, "version", 0L), jdbcTemplate.queryForMap(
+                "SELECT security_version, version FROM users WHERE email = 'admin@ford.com'"));
+    }
+
+    @Test
+    public void testMigrationsSkipSchemaAlreadyBuiltByHibernate() throws SQLException {
+        SingleConnectionDataSource dataSource = dataSource();
+        migrate(dataSource);
+        Map<String, TreeSet<String>> expected = describe(dataSource);
+
+        // Esquema completo sem histórico, como o deixado pelo ddl-auto=update
+        new JdbcTemplate(dataSource).execute("DROP TABLE \"flyway_schema_history\"");
+        migrate(dataSource);
+
+        assertEquals(expected, describe(dataSource));
+    }
+
+    private static SingleConnectionDataSource dataSource() {
+        return new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+    }
+
+    private static void migrate(SingleConnectionDataSource dataSource) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    /**
+     * Colunas (nome, tipo, nulidade) e índices de cada tabela.
+     */
+    private static Map<String, TreeSet<String>> describe(SingleConnectionDataSource dataSource) throws SQLException {
+        Map<String, TreeSet<String>> schema = new TreeMap<>();
+        Connection connection = dataSource.getConnection();
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String table : TABLES) {
+            TreeSet<String> columns = new TreeSet<>();
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                while (rs.next()) {
+                    columns.add(rs.getString("COLUMN_NAME") + " " + rs.getString("TYPE_NAME")
+                            + (rs.getInt("NULLABLE") == DatabaseMetaData.columnNoNulls ? " NOT NULL" : ""));
+                }
+            }
+            schema.put(table + " columns", columns);
+
+            TreeSet<String> indexes = new TreeSet<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, table, false, false)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    if (name != null && name.startsWith("idx_")) {
+                        indexes.add(name + "." + rs.getString("COLUMN_NAME"));
+                    }
+                }
+            }
+            schema.put(table + " indexes", indexes);
+        }
+        return schema;
+    }
+}
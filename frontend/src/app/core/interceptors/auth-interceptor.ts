@@ -1,19 +1,31 @@
-import { HttpInterceptorFn } from '@angular/common/http';
+import { HttpErrorResponse, HttpInterceptorFn, HttpRequest } from '@angular/common/http';
 import { inject } from '@angular/core';
+import { catchError, switchMap, throwError } from 'rxjs';
 import { AuthService } from '../services/auth.service';
 
+const withToken = (req: HttpRequest<unknown>, token: string | null) =>
+  token ? req.clone({ setHeaders: { Authorization: `Bearer ${token}` } }) : req;
+
 export const authInterceptor: HttpInterceptorFn = (req, next) => {
   const authService = inject(AuthService);
-  const token = authService.getToken();
 
-  if (token && !req.url.includes('/auth/')) {
-    const authReq = req.clone({
-      setHeaders: {
-        Authorization: `Bearer ${token}`
-      }
-    });
-    return next(authReq);
+  if (req.url.includes('/auth/')) {
+    return next(req);
   }
 
-  return next(req);
+  // O access token é curto: num 401, renova uma vez com o refresh token e repete a requisição
+  return next(withToken(req, authService.getToken())).pipe(
+    catchError((error: HttpErrorResponse) => {
+      if (error.status !== 401 || !authService.getRefreshToken()) {
+        return throwError(() => error);
+      }
+      return authService.refresh().pipe(
+        catchError(refreshError => {
+          authService.logout();
+          return throwError(() => refreshError);
+        }),
+        switchMap(response => next(withToken(req, response.token)))
+      );
+    })
+  );
 };
@@ -30,9 +30,15 @@ export interface ChangePasswordRequest {
 export interface LoginResponse {
   token: string;
   type: string;
+  refreshToken: string;
+  expiresIn: number;
   user: User;
 }
 
+export interface RefreshTokenRequest {
+  refreshToken: string;
+}
+
 export interface ApiError {
   title: string;
   message: string;
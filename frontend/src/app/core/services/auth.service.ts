@@ -1,6 +1,6 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { BehaviorSubject, Observable, tap } from 'rxjs';
+import { BehaviorSubject, Observable, finalize, shareReplay, tap } from 'rxjs';
 import { LoginRequest, RegisterRequest, LoginResponse, User } from '../models/user.model';
 import { environment } from '../../../environments/environment';
 
@@ -10,12 +10,15 @@ import { environment } from '../../../environments/environment';
 export class AuthService {
   private readonly API_URL = environment.apiUrl;
   private readonly TOKEN_KEY = 'ford_auth_token';
+  private readonly REFRESH_TOKEN_KEY = 'ford_refresh_token';
   private readonly USER_KEY = 'ford_user';
 
+  private refreshInFlight$: Observable<LoginResponse> | null = null;
+
   private currentUserSubject = new BehaviorSubject<User | null>(this.getUserFromStorage());
   public currentUser$ = this.currentUserSubject.asObservable();
 
-  private isAuthenticatedSubject = new BehaviorSubject<boolean>(this.hasValidToken());
+  private isAuthenticatedSubject = new BehaviorSubject<boolean>(this.isAuthenticated());
   public isAuthenticated$ = this.isAuthenticatedSubject.asObservable();
 
   constructor(private http: HttpClient) {}
@@ -27,17 +30,38 @@ export class AuthService {
   login(request: LoginRequest): Observable<LoginResponse> {
     return this.http.post<LoginResponse>(`${this.API_URL}/auth/login`, request)
       .pipe(
-        tap(response => {
-          this.setToken(response.token);
-          this.setUser(response.user);
-          this.currentUserSubject.next(response.user);
-          this.isAuthenticatedSubject.next(true);
-        })
+        tap(response => this.storeSession(response))
+      );
+  }
+
+  /**
+   * Troca o refresh token por um novo par de tokens. Requisições que recebem
+   * 401 ao mesmo tempo compartilham a mesma renovação.
+   */
+  refresh(): Observable<LoginResponse> {
+    if (!this.refreshInFlight$) {
+      this.refreshInFlight$ = this.http.post<LoginResponse>(`${this.API_URL}/auth/refresh`, {
+        refreshToken: this.getRefreshToken()
+      }).pipe(
+        tap(response => this.storeSession(response)),
+        finalize(() => this.refreshInFlight$ = null),
+        shareReplay(1)
       );
+    }
+    return this.refreshInFlight$;
   }
 
   logout(): void {
+    const token = this.getToken();
+    const refreshToken = this.getRefreshToken();
+    if (token || refreshToken) {
+      const headers = token ? { Authorization: `Bearer ${token}` } : undefined;
+      this.http.post<void>(`${this.API_URL}/auth/logout`, refreshToken ? { refreshToken } : null, { headers })
+        .subscribe({ error: () => {} });
+    }
+
     localStorage.removeItem(this.TOKEN_KEY);
+    localStorage.removeItem(this.REFRESH_TOKEN_KEY);
     localStorage.removeItem(this.USER_KEY);
     this.currentUserSubject.next(null);
     this.isAuthenticatedSubject.next(false);
@@ -47,12 +71,24 @@ export class AuthService {
     return localStorage.getItem(this.TOKEN_KEY);
   }
 
+  getRefreshToken(): string | null {
+    return localStorage.getItem(this.REFRESH_TOKEN_KEY);
+  }
+
   getCurrentUser(): User | null {
     return this.currentUserSubject.value;
   }
 
   isAuthenticated(): boolean {
-    return this.hasValidToken();
+    return this.hasValidToken() || this.getRefreshToken() !== null;
+  }
+
+  private storeSession(response: LoginResponse): void {
+    this.setToken(response.token);
+    localStorage.setItem(this.REFRESH_TOKEN_KEY, response.refreshToken);
+    this.setUser(response.user);
+    this.currentUserSubject.next(response.user);
+    this.isAuthenticatedSubject.next(true);
   }
 
   private setToken(token: string): void {
@@ -1,6 +1,6 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { HttpClient, HttpHeaders, HttpResponse } from '@angular/common/http';
+import { Observable, map } from 'rxjs';
 import { User, UpdateProfileRequest, ChangePasswordRequest } from '../models/user.model';
 import { environment } from '../../../environments/environment';
 
@@ -10,17 +10,28 @@ import { environment } from '../../../environments/environment';
 export class UserService {
   private readonly API_URL = environment.apiUrl;
 
+  // ETag do último perfil lido, enviado como If-Match na atualização
+  private profileETag: string | null = null;
+
   constructor(private http: HttpClient) {}
 
   getProfile(): Observable<User> {
-    return this.http.get<User>(`${this.API_URL}/users/profile`);
+    return this.http.get<User>(`${this.API_URL}/users/profile`, { observe: 'response' })
+      .pipe(map(response => this.rememberETag(response)));
   }
 
   updateProfile(request: UpdateProfileRequest): Observable<User> {
-    return this.http.put<User>(`${this.API_URL}/users/profile`, request);
+    const headers = this.profileETag ? new HttpHeaders({ 'If-Match': this.profileETag }) : undefined;
+    return this.http.put<User>(`${this.API_URL}/users/profile`, request, { headers, observe: 'response' })
+      .pipe(map(response => this.rememberETag(response)));
   }
 
   changePassword(request: ChangePasswordRequest): Observable<void> {
     return this.http.put<void>(`${this.API_URL}/users/password`, request);
   }
+
+  private rememberETag(response: HttpResponse<User>): User {
+    this.profileETag = response.headers.get('ETag');
+    return response.body as User;
+  }
 }
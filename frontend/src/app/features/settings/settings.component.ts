@@ -546,7 +546,9 @@ export class SettingsComponent implements OnInit {
         },
         error: (error: any) => {
           console.error('Error updating profile:', error);
-          this.showMessage('Error updating profile');
+          this.showMessage(error.status === 412
+            ? 'Perfil alterado em outra sessão. Recarregue a página e tente novamente.'
+            : 'Error updating profile');
         }
       });
     }